@@ -0,0 +1,31 @@
+package com.ex.benchmark;
+
+import com.ex.ExApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 스프링 컨텍스트
+ * - 외부 H2 서버 대신 메모리 H2 를 사용하고 웹 서버는 띄우지 않는다
+ * - SQL 로그는 측정값을 왜곡하므로 끈다
+ * - 백그라운드 샘플 데이터 저장(MemberSeeder)이 측정 중에 끼어들지 않도록 끈다
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(ExApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "ex.seed.enabled=false")
+                .properties(properties)
+                .run();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.ex.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 전 Member 의 식별자 전략(IDENTITY) 기준선 - 벤치마크 컨텍스트에서만 매핑된다
+ * - persist 시점에 INSERT 가 바로 나가고 생성된 키를 받아와야 하므로 JDBC 배치 불가
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class IdentityMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String username;
+
+    private int age;
+
+    IdentityMember(String username, int age) {
+        this.username = username;
+        this.age = age;
+    }
+
+}
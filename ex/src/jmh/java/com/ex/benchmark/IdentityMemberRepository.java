@@ -0,0 +1,6 @@
+package com.ex.benchmark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface IdentityMemberRepository extends JpaRepository<IdentityMember, Long> {
+}
@@ -0,0 +1,76 @@
+package com.ex.benchmark;
+
+import com.ex.entity.Item;
+import com.ex.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식별자를 직접 할당하는 엔티티 대량 INSERT
+ * - merge : Persistable 이 없을 때의 SimpleJpaRepository.save 동작 (행마다 SELECT 후 INSERT)
+ * - save : AssignedIdEntity 덕분에 persist
+ * - insertAll : JDBC 배치 + 주기적인 flush/clear
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ItemInsertBenchmark {
+
+    @Param({"10000"})
+    int rows;
+
+    ConfigurableApplicationContext context;
+    ItemRepository itemRepository;
+    EntityManager em;
+    TransactionTemplate transactionTemplate;
+
+    List<Item> items;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        itemRepository = context.getBean(ItemRepository.class);
+        em = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @Setup(Level.Iteration)
+    public void clean() {
+        itemRepository.deleteAllInBatch();
+        items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            items.add(new Item("item" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void merge() {
+        transactionTemplate.executeWithoutResult(status -> items.forEach(em::merge));
+    }
+
+    @Benchmark
+    public void save() {
+        transactionTemplate.executeWithoutResult(status -> itemRepository.saveAll(items));
+    }
+
+    @Benchmark
+    public void insertAll() {
+        itemRepository.insertAll(items);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.ex.benchmark;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import com.ex.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 회원 한 명을 THREADS 개 스레드가 동시에 수정
+ * - PESSIMISTIC : findLockByUsername (SELECT ... FOR UPDATE)
+ * - OPTIMISTIC : @Version + @OptimisticRetry
+ * - 재시도 초과/예산 소진으로 실패한 호출은 Conflicts.failures 로 따로 출력
+ * - 락 대기 중 타임아웃이 나지 않도록 H2 LOCK_TIMEOUT 을 늘린다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(MemberContentionBenchmark.THREADS)
+@Fork(1)
+public class MemberContentionBenchmark {
+
+    static final int THREADS = 8;
+    static final String USERNAME = "contention";
+
+    public enum LockMode { PESSIMISTIC, OPTIMISTIC }
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC"})
+    LockMode mode;
+
+    ConfigurableApplicationContext context;
+    MemberService memberService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        memberService = context.getBean(MemberService.class);
+        context.getBean(MemberRepository.class).save(new Member(USERNAME, 0));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Conflicts {
+
+        public long failures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failures = 0;
+        }
+    }
+
+    @Benchmark
+    public int increaseAge(Conflicts conflicts) {
+        try {
+            return switch (mode) {
+                case PESSIMISTIC -> memberService.increaseAgePessimistic(USERNAME);
+                case OPTIMISTIC -> memberService.increaseAgeOptimistic(USERNAME);
+            };
+        } catch (OptimisticLockingFailureException e) {
+            conflicts.failures++;
+            return -1;
+        }
+    }
+
+}
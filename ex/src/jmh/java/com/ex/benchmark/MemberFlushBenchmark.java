@@ -0,0 +1,95 @@
+package com.ex.benchmark;
+
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * flush 비용 - 관리 중인 회원 MEMBERS(1만) 명 중 modified 명만 updateUsername
+ * - 바이트코드 향상(dirtyTracking) 적용 시 변경된 엔티티만 확인 > modified 에 비례
+ * - 미적용(-PdisableEnhancement) 시 모든 엔티티를 스냅샷과 비교 > MEMBERS 에 비례
+ * - 매 호출 전에 새 EntityManager 로 전체를 조회하고 수정 (측정에서 제외), 측정 후 롤백
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberFlushBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberFlushBenchmark.class);
+
+    static final int TEAMS = 10;
+    static final int MEMBERS = 10_000;
+
+    @Param({"1", "10", "100"})
+    int modified;
+
+    ConfigurableApplicationContext context;
+    EntityManagerFactory emf;
+
+    EntityManager em;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        emf = context.getBean(EntityManagerFactory.class);
+
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new Team("team" + i));
+        }
+        context.getBean(TeamRepository.class).saveAll(teams);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("bench" + i, i % 50, teams.get(i % TEAMS)));
+        }
+        context.getBean(MemberRepository.class).saveAllBatched(members);
+
+        //비교 실행(-PdisableEnhancement) 결과를 구분할 수 있도록 적용 여부를 남긴다
+        log.info("bytecode enhanced = {}", ManagedEntity.class.isAssignableFrom(Member.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void load() {
+        em = emf.createEntityManager();
+        em.getTransaction().begin();
+        List<Member> members = em.createQuery("select m from Member m", Member.class).getResultList();
+        int step = members.size() / modified;
+        for (int i = 0; i < modified; i++) {
+            Member member = members.get(i * step);
+            member.updateUsername(member.getUsername() + "-");
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() {
+        em.getTransaction().rollback();
+        em.close();
+    }
+
+    @Benchmark
+    public void flush() {
+        em.flush();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.ex.benchmark;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 INSERT 비교
+ * - saveOneByOneIdentity: 변경 전 기준선 - IDENTITY 식별자, save 호출마다 트랜잭션 하나 (기존 init() 방식)
+ * - saveOneByOne: SEQUENCE(pooled) 식별자, save 호출마다 트랜잭션 하나
+ * - saveAllBatched: 한 트랜잭션에서 JDBC 배치 + 주기적인 flush/clear
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class MemberInsertBenchmark {
+
+    @Param({"100000"})
+    int rows;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    IdentityMemberRepository identityMemberRepository;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+        identityMemberRepository = context.getBean(IdentityMemberRepository.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void clean() {
+        memberRepository.deleteAllInBatch();
+        identityMemberRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void saveOneByOneIdentity() {
+        for (int i = 0; i < rows; i++) {
+            identityMemberRepository.save(new IdentityMember("member" + i, i % 100));
+        }
+    }
+
+    @Benchmark
+    public void saveOneByOne() {
+        for (int i = 0; i < rows; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @Benchmark
+    public void saveAllBatched() {
+        List<Member> members = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            members.add(new Member("member" + i, i % 100));
+        }
+        memberRepository.saveAllBatched(members);
+    }
+
+}
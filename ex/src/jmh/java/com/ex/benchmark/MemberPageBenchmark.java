@@ -0,0 +1,103 @@
+package com.ex.benchmark;
+
+import com.ex.dto.MemberDto;
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /members 페이지 조회 - 배치 페치 적용 전후 비교
+ * - batchFetchSize=1 : 회원마다 팀을 하나씩 조회 (N+1)
+ * - batchFetchSize=100 : 페이지의 팀을 한 번에 조회
+ * - 2차 캐시를 끄고 측정해야 팀 조회 SQL 차이가 드러난다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberPageBenchmark {
+
+    static final int TEAMS = 200;
+    static final int MEMBERS = 2000;
+    static final int PAGE_SIZE = 20;
+
+    @Param({"1", "100"})
+    int batchFetchSize;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    TransactionTemplate readOnly;
+    Statistics statistics;
+
+    int page;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(
+                "spring.jpa.properties.hibernate.default_batch_fetch_size=" + batchFetchSize,
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        memberRepository = context.getBean(MemberRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new Team("team" + i));
+        }
+        teamRepository.saveAll(teams);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("page" + i, i % 50, teams.get(i % TEAMS)));
+        }
+        memberRepository.saveAllBatched(members);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private PageRequest nextPage() {
+        return PageRequest.of(page++ % (MEMBERS / PAGE_SIZE), PAGE_SIZE, Sort.by("username"));
+    }
+
+    //기존 findMembers - findAll(pageable) 후 DTO 변환 중 지연 로딩
+    @Benchmark
+    public Object lazyTeam(SqlStatementCounter counter) {
+        PageRequest pageRequest = nextPage();
+        return readOnly.execute(status -> counter.count(statistics, () ->
+                memberRepository.findAll(pageRequest).map(MemberDto::new).getContent()));
+    }
+
+    //조회 후 initialize 로 팀을 일괄 초기화
+    @Benchmark
+    public Object initializeTeam(SqlStatementCounter counter) {
+        PageRequest pageRequest = nextPage();
+        return readOnly.execute(status -> counter.count(statistics, () -> {
+            List<Member> members = memberRepository.findAll(pageRequest).getContent();
+            memberRepository.initialize(members, "team");
+            return members.stream().map(MemberDto::new).toList();
+        }));
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.ex.benchmark;
+
+import com.ex.dto.MemberDto;
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.projections.NestedClosedProjections;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * MemberRepository 조회 방식별 비용 비교
+ * - 메모리 H2 에 팀 10개, 회원 MEMBERS 명을 저장해두고 측정
+ * - 처리량(ops/s), 할당률(-prof gc, build.gradle 에 설정), 호출당 SQL 수(SqlStatementCounter)
+ * - 호출마다 읽기 전용 트랜잭션을 새로 열어서 영속성 컨텍스트를 재사용하지 않는다
+ * - 단건 조회는 username 을 돌아가면서 바꿔 조회한다
+ * - namedQuery 는 쿼리 캐시가 적용되어 있으므로 캐시 적중 비용이 측정된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberQueryBenchmark {
+
+    static final int TEAMS = 10;
+    static final int MEMBERS = 1000;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    TransactionTemplate readOnly;
+    Statistics statistics;
+
+    int sequence;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        seed(context.getBean(TeamRepository.class));
+    }
+
+    private void seed(TeamRepository teamRepository) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new Team("team" + i));
+        }
+        teamRepository.saveAll(teams);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("bench" + i, i % 50, teams.get(i % TEAMS)));
+        }
+        memberRepository.saveAllBatched(members);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private String nextUsername() {
+        return "bench" + (sequence++ % MEMBERS);
+    }
+
+    private <T> T query(SqlStatementCounter counter, Supplier<T> query) {
+        return readOnly.execute(status -> counter.count(statistics, query));
+    }
+
+    //메서드 이름으로 쿼리 생성
+    @Benchmark
+    public Object derivedQuery(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> memberRepository.findByUsernameAndAgeGreaterThan(username, -1));
+    }
+
+    //@Query
+    @Benchmark
+    public Object queryAnnotation(SqlStatementCounter counter) {
+        int i = sequence++ % MEMBERS;
+        return query(counter, () -> memberRepository.findMember("bench" + i, i % 50));
+    }
+
+    //Named 쿼리 (쿼리 캐시)
+    @Benchmark
+    public Object namedQuery(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> memberRepository.findByUsername(username));
+    }
+
+    //DTO 직접 조회 - new 명령어, 전체
+    @Benchmark
+    public Object dtoProjection(SqlStatementCounter counter) {
+        return query(counter, () -> memberRepository.findMemberDto());
+    }
+
+    //인터페이스 기반 Open Projection (SpEL)
+    @Benchmark
+    public Object openProjection(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> {
+            //Open Projection 은 getter 호출 시점에 SpEL 을 평가하므로 값을 꺼내야 비용이 측정된다
+            return memberRepository.findOpenProjectionsByUsername(username).get(0).getUsername();
+        });
+    }
+
+    //인터페이스 기반, 생성자 표현식으로 계산 (openProjection 과 같은 결과)
+    @Benchmark
+    public Object constructorProjection(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> memberRepository.findProjectionsByUsername(username).get(0).getUsername());
+    }
+
+    //중첩 Closed Projection (동적 Projection)
+    @Benchmark
+    public Object nestedClosedProjection(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> {
+            NestedClosedProjections projection = memberRepository
+                    .findProjectionsGenericByUsername(username, NestedClosedProjections.class).get(0);
+            return projection.getUsername() + projection.getTeam().getName();
+        });
+    }
+
+    //동적 조회 - 등록된 타입은 ProjectionMapper (nestedClosedProjection 과 비교)
+    @Benchmark
+    public Object dtoMapper(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> {
+            MemberDto dto = memberRepository.findProjectionsGenericByUsername(username, MemberDto.class).get(0);
+            return dto.username() + dto.teamName();
+        });
+    }
+
+    //네이티브 쿼리 + Projection, 페이지 20건
+    @Benchmark
+    public Object nativeProjection(SqlStatementCounter counter) {
+        return query(counter, () -> memberRepository.findByNativeProjection(PageRequest.of(0, 20)).getContent());
+    }
+
+    //페치 조인, 전체
+    @Benchmark
+    public Object fetchJoin(SqlStatementCounter counter) {
+        return query(counter, () -> memberRepository.findAllFetchJoin());
+    }
+
+    //EntityGraph, 전체
+    @Benchmark
+    public Object entityGraph(SqlStatementCounter counter) {
+        return query(counter, () -> memberRepository.findAll());
+    }
+
+    //EntityGraph, 단건
+    @Benchmark
+    public Object entityGraphByUsername(SqlStatementCounter counter) {
+        String username = nextUsername();
+        return query(counter, () -> memberRepository.findEntityGraphByUsername(username));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.ex.benchmark;
+
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.repository.MemberReadRepository;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 조회 전용 DTO 매핑(MemberReadRepository) vs 기존 MemberRepository 조회
+ * - 회원 MEMBERS(1만) 명 전체를 한 번에 읽는다 > gc.alloc.rate.norm 이 곧 1만 건당 할당량
+ * - 호출마다 읽기 전용 트랜잭션을 새로 연다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberReadBenchmark {
+
+    static final int TEAMS = 10;
+    static final int MEMBERS = 10_000;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    MemberReadRepository memberReadRepository;
+    TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+        memberReadRepository = context.getBean(MemberReadRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        seed(context.getBean(TeamRepository.class));
+    }
+
+    private void seed(TeamRepository teamRepository) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new Team("team" + i));
+        }
+        teamRepository.saveAll(teams);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("bench" + i, i % 50, teams.get(i % TEAMS)));
+        }
+        memberRepository.saveAllBatched(members);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private <T> T query(Supplier<T> query) {
+        return readOnly.execute(status -> query.get());
+    }
+
+    @Benchmark
+    public Object usernameListJpa() {
+        return query(() -> memberRepository.findUsernameList());
+    }
+
+    @Benchmark
+    public Object usernameListJdbc() {
+        return query(() -> memberReadRepository.findUsernameList());
+    }
+
+    @Benchmark
+    public Object memberDtoJpa() {
+        return query(() -> memberRepository.findMemberDto());
+    }
+
+    @Benchmark
+    public Object memberDtoJdbc() {
+        return query(() -> memberReadRepository.findMemberDto());
+    }
+
+    @Benchmark
+    public Object nativeProjectionJpa() {
+        return query(() -> memberRepository.findByNativeProjection(PageRequest.of(0, MEMBERS)).getContent());
+    }
+
+    @Benchmark
+    public Object memberPageJdbc() {
+        return query(() -> memberReadRepository.findMemberPage(PageRequest.of(0, MEMBERS)).getContent());
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.ex.benchmark;
+
+import com.ex.dto.MemberDto;
+import com.ex.dto.MemberSummaryDto;
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamJpaRepository;
+import com.ex.repository.TeamRepository;
+import com.ex.service.MemberQueryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 요약(회원 + 회원 수 + 팀 수) 응답 시간
+ * - sequential : 읽기 전용 트랜잭션 하나에서 차례로 조회 (기존 방식)
+ * - concurrent : MemberQueryService 로 세 조회를 동시에 실행
+ * - 조회 하나하나가 짧은 메모리 H2 에서는 스레드 전환 비용이 더 클 수 있다 > 네트워크 너머 DB 에서 차이가 커진다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberSummaryBenchmark {
+
+    static final int MEMBERS = 10_000;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    TeamJpaRepository teamJpaRepository;
+    MemberQueryService memberQueryService;
+    TransactionTemplate readOnly;
+
+    Long memberId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+        teamJpaRepository = context.getBean(TeamJpaRepository.class);
+        memberQueryService = context.getBean(MemberQueryService.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        Team team = context.getBean(TeamRepository.class).save(new Team("team"));
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("bench" + i, i % 50, team));
+        }
+        memberRepository.saveAllBatched(members);
+        memberId = members.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberSummaryDto sequential() {
+        return readOnly.execute(status -> new MemberSummaryDto(
+                memberRepository.findById(memberId).map(MemberDto::new).orElseThrow(),
+                memberRepository.count(),
+                teamJpaRepository.count()));
+    }
+
+    @Benchmark
+    public MemberSummaryDto concurrent() {
+        CompletableFuture<MemberDto> member = memberQueryService.findMember(memberId).thenApply(found -> found.orElseThrow());
+        CompletableFuture<Long> totalMembers = memberQueryService.countMembers();
+        CompletableFuture<Long> totalTeams = memberQueryService.countTeams();
+        return new MemberSummaryDto(member.join(), totalMembers.join(), totalTeams.join());
+    }
+
+}
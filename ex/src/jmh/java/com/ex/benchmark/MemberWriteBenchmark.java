@@ -0,0 +1,80 @@
+package com.ex.benchmark;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import com.ex.support.AuditingSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 처리량과 Auditing 비용
+ * - save : 호출마다 트랜잭션 하나, 회원 하나
+ * - saveAllBatched : 트랜잭션 하나에 회원 BATCH 명 (등록자/시간 고정)
+ * - legacyStamp / auditingSupportStamp : INSERT 한 건에 필요한 등록자/수정자, 등록/수정 시간 계산만 비교
+ *   (legacy = 기존 방식, UUID.randomUUID + LocalDateTime.now 를 필드마다 호출)
+ * - 여러 스레드에서 실행해서 SecureRandom 경합까지 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class MemberWriteBenchmark {
+
+    static final int BATCH = 1000;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    AuditingSupport auditingSupport;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+        auditingSupport = context.getBean(AuditingSupport.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object save() {
+        return memberRepository.save(new Member("write", 10));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void saveAllBatched() {
+        List<Member> members = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            members.add(new Member("write" + i, 10));
+        }
+        memberRepository.saveAllBatched(members);
+    }
+
+    @Benchmark
+    public Object[] legacyStamp() {
+        return new Object[]{
+                Optional.of(UUID.randomUUID().toString()), Optional.of(UUID.randomUUID().toString()),
+                Optional.of(LocalDateTime.now()), Optional.of(LocalDateTime.now())};
+    }
+
+    @Benchmark
+    public Object[] auditingSupportStamp() {
+        return new Object[]{
+                auditingSupport.getCurrentAuditor(), auditingSupport.getCurrentAuditor(),
+                auditingSupport.getNow(), auditingSupport.getNow()};
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.ex.benchmark;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크 결과에 실행된 SQL 수를 함께 출력
+ * - Hibernate 통계의 PreparedStatement 수 증가분을 누적
+ * - 처리량과 같은 단위(ops/s)로 출력되므로 statements / 처리량 = 호출 1회당 SQL 수
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class SqlStatementCounter {
+
+    public long statements;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        statements = 0;
+    }
+
+    <T> T count(Statistics statistics, Supplier<T> work) {
+        long before = statistics.getPrepareStatementCount();
+        T result = work.get();
+        statements += statistics.getPrepareStatementCount() - before;
+        return result;
+    }
+
+}
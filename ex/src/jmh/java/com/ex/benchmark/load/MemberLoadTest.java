@@ -0,0 +1,94 @@
+package com.ex.benchmark.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 - 요청 처리 모델(플랫폼 스레드 vs 가상 스레드) 비교
+ * - 실행 중인 서버에 concurrency 개의 클라이언트가 duration 동안 쉬지 않고 요청
+ * - 처리량(req/s)과 지연 시간 p50/p99/max 출력
+ *
+ * 1. ./gradlew bootRun                  (요청당 플랫폼 스레드, 톰캣 max 200)
+ * 2. ./gradlew bootRun -PvirtualThreads (가상 스레드 + 커넥션 세마포어, JDK 21)
+ * 각각 ./gradlew loadTest -Pconcurrency=500 -Pduration=30 -Purl=http://localhost:8080/members?size=20
+ */
+public class MemberLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/members?size=20";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+
+        //워밍업
+        for (int i = 0; i < 200; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            results.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long started = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - started;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        long[] all = new long[0];
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        clients.shutdown();
+        Arrays.sort(all);
+
+        System.out.printf("url=%s concurrency=%d duration=%ds%n", url, concurrency, duration.toSeconds());
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                all.length, errors.get(), all.length / (double) duration.toSeconds());
+        System.out.printf("p50=%.2fms p99=%.2fms max=%.2fms%n",
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+}
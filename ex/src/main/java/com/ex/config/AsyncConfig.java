@@ -0,0 +1,51 @@
+package com.ex.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 조회(MemberQueryService) 전용 실행기
+ * - 스레드 수 = 동시에 잡을 수 있는 커넥션 수 > 커넥션 풀 크기보다 작게 (요청 처리 스레드 몫을 남긴다)
+ * - 큐가 가득 차면 거절 (AbortPolicy) > TaskRejectedException 을 503 으로 응답 (ConnectionPoolExceptionHandler)
+ *   > 호출한 스레드(요청 처리 스레드)에서 실행하면 부하가 높을수록 요청 스레드까지 JDBC 대기에 묶인다
+ * - 가상 스레드 모드에서도 JDBC 동시 실행 수를 제한하기 위해 플랫폼 스레드 풀을 그대로 사용
+ * - Executor 빈을 하나라도 등록하면 스프링 부트의 applicationTaskExecutor 가 만들어지지 않는다
+ *   > MVC 비동기 처리(StreamingResponseBody), @Async 기본 실행기, JPA 백그라운드 부트스트랩(fast 프로필)이
+ *     jdbcExecutor 나 요청마다 새 스레드를 쓰게 되므로 같은 이름으로 직접 등록 (spring.task.execution.* 설정 적용)
+ */
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    public static final String JDBC_EXECUTOR = "jdbcExecutor";
+
+    @Bean(JDBC_EXECUTOR)
+    public ThreadPoolTaskExecutor jdbcExecutor(@Value("${ex.async.jdbc.pool-size:4}") int poolSize,
+                                               @Value("${ex.async.jdbc.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("jdbc-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.ex.config;
+
+import com.ex.support.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 가상 스레드 모드에서 커넥션 풀 앞에 공정 세마포어를 둔다
+ * - permits = 풀 최대 크기, 대기 시간 = 풀의 connectionTimeout
+ * - application-virtual.yml 에서 활성화
+ */
+@Configuration
+@ConditionalOnProperty(name = "ex.datasource.concurrency-limit.enabled", havingValue = "true")
+public class ConnectionGuardConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionGuardPostProcessor() {
+        return new ConnectionGuardPostProcessor();
+    }
+
+    //SQL 메트릭 프록시(DataSourceProxyConfig)보다 먼저 HikariDataSource 를 감싼다
+    static class ConnectionGuardPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new ConcurrencyLimitedDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.ex.config;
+
+import com.ex.support.HikariPools;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HikariCP 풀 크기와 기동 시 예열
+ * - maximum-pool-size 를 직접 지정하지 않으면 코어 수 * (1 + ex.datasource.pool.io-wait-ratio)
+ *   > 기본값 10 은 코어 수와 무관, 요청 스레드(200)보다 훨씬 작은 고정 크기 풀이 대기열 역할을 한다
+ * - minimumIdle 은 최대 크기와 같게 (고정 크기 풀, 부하 급증 시 커넥션 생성 대기 없음)
+ * - leakDetectionThreshold : 반환되지 않은 커넥션을 얻은 곳의 스택을 로그로 남긴다
+ *   > 스트리밍 내보내기, 분할 벌크 연산처럼 정상적으로 오래 잡는 경우보다 충분히 길게 (기본 60초)
+ *   > 느린 점유 자체는 ConnectionHoldMonitor(long-hold-ms)가 경고한다
+ * - 기동 시 minimumIdle 만큼 커넥션을 열어 첫 요청이 커넥션 생성을 기다리지 않게 한다
+ */
+@Slf4j
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolSizingPostProcessor(Environment environment) {
+        return new ConnectionPoolSizingPostProcessor(environment);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "ex.datasource.pool.prewarm", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner connectionPoolPrewarmer(ObjectProvider<DataSource> dataSources) {
+        return args -> {
+            for (HikariDataSource pool : HikariPools.find(dataSources.stream().toList())) {
+                prewarm(pool);
+            }
+        };
+    }
+
+    private static void prewarm(HikariDataSource pool) throws SQLException {
+        long start = System.nanoTime();
+        List<Connection> connections = new ArrayList<>(pool.getMinimumIdle());
+        try {
+            //동시에 잡고 있어야 유휴 커넥션 재사용 없이 minimumIdle 개가 모두 만들어진다
+            for (int i = 0; i < pool.getMinimumIdle(); i++) {
+                connections.add(pool.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        log.info("connection pool {} prewarmed {} connections {}ms",
+                pool.getPoolName(), connections.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    //@ConfigurationProperties 바인딩 이후, 풀 시작과 동시성 제한(ConnectionGuardConfig) 이전에 적용
+    static class ConnectionPoolSizingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        ConnectionPoolSizingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            String prefix = "replicaDataSource".equals(beanName) ? "ex.datasource.replica" : "spring.datasource.hikari";
+            if (!environment.containsProperty(prefix + ".maximum-pool-size")) {
+                hikari.setMaximumPoolSize(poolSize());
+            }
+            if (!environment.containsProperty(prefix + ".minimum-idle")) {
+                hikari.setMinimumIdle(hikari.getMaximumPoolSize());
+            }
+            if (!environment.containsProperty(prefix + ".leak-detection-threshold")) {
+                hikari.setLeakDetectionThreshold(environment.getProperty("ex.datasource.pool.leak-detection-ms", Long.class, 60_000L));
+            }
+            return bean;
+        }
+
+        private int poolSize() {
+            double ioWaitRatio = environment.getProperty("ex.datasource.pool.io-wait-ratio", Double.class, 1.0);
+            return (int) Math.ceil(Runtime.getRuntime().availableProcessors() * (1 + ioWaitRatio));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+    }
+
+}
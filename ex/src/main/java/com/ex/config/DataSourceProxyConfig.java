@@ -0,0 +1,52 @@
+package com.ex.config;
+
+import com.ex.support.ConnectionHoldMonitor;
+import com.ex.support.SqlMetricsListener;
+import com.ex.support.StatementCacheStatistics;
+import com.ex.support.TableWriteTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸서 SQL 메트릭 수집
+ * - logging.level.org.hibernate.SQL 은 SQL 문만 보여주고, 실행 시간과 행 수는 여기서 측정
+ * - ResultSet 은 SELECT 행 수를 세는 프록시로만 감싼다 > 행마다, 컬럼마다 리스너를 거치지 않는다
+ * - /actuator/metrics/jdbc.statement?tag=repository.method:MemberRepository.findByAge
+ * - 커넥션 점유 시간은 SqlMetricsListener 가 ConnectionHoldMonitor 로 전달 (/actuator/metrics/jdbc.connection.hold)
+ * - 테이블별 쓰기 감지는 TableWriteTracker (캐시한 전체 건수 무효화)
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                 ObjectProvider<StatementCacheStatistics> statementCacheStatistics,
+                                                                 ObjectProvider<ConnectionHoldMonitor> connectionHoldMonitor,
+                                                                 ObjectProvider<TableWriteTracker> tableWriteTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                //애플리케이션이 사용하는 DataSource 만 감싼다 (읽기/쓰기 분리 시 primary, replica 풀은 제외)
+                if (!(bean instanceof DataSource dataSource) || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                SqlMetricsListener listener = new SqlMetricsListener(
+                        meterRegistry.getObject(), statementCacheStatistics.getObject(), connectionHoldMonitor.getObject());
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .listener(tableWriteTracker.getObject())
+                        .methodListener(listener)
+                        .proxyResultSet(listener)
+                        .build();
+            }
+        };
+    }
+
+}
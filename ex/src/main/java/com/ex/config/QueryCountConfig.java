@@ -0,0 +1,37 @@
+package com.ex.config;
+
+import com.ex.support.NPlusOneDetector;
+import com.ex.support.NPlusOneMode;
+import com.ex.support.QueryCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public NPlusOneDetector nPlusOneDetector(@Value("${ex.jpa.n-plus-one.mode:LOG}") NPlusOneMode mode,
+                                             @Value("${ex.jpa.n-plus-one.threshold:5}") int threshold,
+                                             MeterRegistry meterRegistry) {
+        return new NPlusOneDetector(mode, threshold, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(NPlusOneDetector nPlusOneDetector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, nPlusOneDetector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter() {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+}
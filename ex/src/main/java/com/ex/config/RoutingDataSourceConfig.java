@@ -0,0 +1,60 @@
+package com.ex.config;
+
+import com.ex.support.ReadWriteRoutingDataSource;
+import com.ex.support.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 복제본(replica) 설정 시 읽기/쓰기 분리
+ * - primary : spring.datasource.*
+ * - replica : ex.datasource.replica.* (HikariCP 속성 - jdbc-url, username, password, maximum-pool-size ...)
+ * - ex.datasource.replica.jdbc-url 이 없으면 기존처럼 단일 DataSource
+ */
+@Configuration
+@ConditionalOnProperty(name = "ex.datasource.replica.jdbc-url")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("ex.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+}
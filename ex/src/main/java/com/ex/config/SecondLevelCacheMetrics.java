@@ -0,0 +1,45 @@
+package com.ex.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * 2차 캐시 리전별 JCache 메트릭
+ * - 적중/미스 요청 수는 Hibernate 통계(hibernate.second.level.cache.requests)로도 노출된다
+ * - 크기/TTL 에 의한 제거(eviction)는 캐시 구현체만 알 수 있으므로 JCache 통계를 함께 등록
+ * - /actuator/metrics/cache.gets, cache.evictions 등으로 확인
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory emf;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegionFactory regionFactory = emf.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+            return;
+        }
+        CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+            JCacheMetrics.monitor(registry, cache);
+        }
+    }
+
+}
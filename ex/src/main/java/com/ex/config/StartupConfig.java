@@ -0,0 +1,71 @@
+package com.ex.config;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import com.ex.support.FirstRequestTimingFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Async;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 시간
+ * - 샘플 데이터는 기동이 끝난 뒤(ApplicationReadyEvent) 백그라운드에서 한 트랜잭션으로 배치 저장
+ * - 기동 완료 시간과 첫 요청 응답 시간을 로그로 남긴다
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public FilterRegistrationBean<FirstRequestTimingFilter> firstRequestTimingFilter() {
+        FilterRegistrationBean<FirstRequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new FirstRequestTimingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartup() {
+        log.info("application ready {}ms", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "ex.seed.enabled", havingValue = "true", matchIfMissing = true)
+    public MemberSeeder memberSeeder(MemberRepository memberRepository, @Value("${ex.seed.members:100}") int members) {
+        return new MemberSeeder(memberRepository, members);
+    }
+
+    public static class MemberSeeder {
+
+        private final MemberRepository memberRepository;
+        private final int members;
+
+        MemberSeeder(MemberRepository memberRepository, int members) {
+            this.memberRepository = memberRepository;
+            this.members = members;
+        }
+
+        @Async(AsyncConfig.JDBC_EXECUTOR)
+        @EventListener(ApplicationReadyEvent.class)
+        public void seed() {
+            List<Member> seed = new ArrayList<>(members);
+            for (int i = 1; i <= members; i++) {
+                seed.add(new Member("member" + i, 20 + i));
+            }
+            memberRepository.saveAllBatched(seed);
+            log.info("seeded {} members", members);
+        }
+    }
+
+}
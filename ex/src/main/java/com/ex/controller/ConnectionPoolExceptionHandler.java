@@ -0,0 +1,58 @@
+package com.ex.controller;
+
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 커넥션 풀 포화
+ * - connectionTimeout 안에 커넥션을 얻지 못하면 500 대신 503 + Retry-After
+ *   > 클라이언트/로드밸런서가 재시도나 다른 인스턴스로 넘길 수 있다
+ * - 트랜잭션 시작 시점이면 CannotCreateTransactionException, 트랜잭션 밖이면 Hibernate 의 JDBCConnectionException
+ *   (HikariCP, ConcurrencyLimitedDataSource 의 SQLTransientConnectionException 을 Hibernate 가 변환, 스프링 예외의 원인으로도 매칭)
+ * - 원인에 SQLTransientConnectionException(커넥션 대기 시간 초과)이 있을 때만 503
+ *   > DB 다운, 인증 실패 같은 다른 커넥션 오류는 그대로 다시 던져서 기본 오류 처리(500)로 보낸다
+ * - 그 외 데이터 접근 예외는 처리하지 않는다
+ * - 비동기 조회 실행기(jdbcExecutor) 큐가 가득 차서 거절된 요청도 503 (AsyncConfig)
+ */
+@RestControllerAdvice
+public class ConnectionPoolExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler({CannotCreateTransactionException.class, JDBCConnectionException.class})
+    public ResponseEntity<String> connectionUnavailable(Exception e) throws Exception {
+        if (!isConnectionTimeout(e)) {
+            throw e;
+        }
+        return serviceUnavailable("커넥션 풀이 포화 상태입니다");
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> executorSaturated(TaskRejectedException e) {
+        return serviceUnavailable("조회 실행기가 포화 상태입니다");
+    }
+
+    private static boolean isConnectionTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity<String> serviceUnavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(message);
+    }
+
+}
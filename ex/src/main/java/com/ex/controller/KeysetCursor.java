@@ -0,0 +1,101 @@
+package com.ex.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋 페이징 커서
+ * - 마지막으로 조회한 행의 정렬 키(username, id 등)를 Base64 문자열로 감싸서 클라이언트에 전달
+ * - 클라이언트는 내부 구조를 몰라도 되고 다음 요청에 그대로 넘기기만 하면 된다
+ * - 정렬 가능한 필드는 Member 의 id, username, age 로 제한 > 디코딩 시 원래 타입으로 복원하기 위함
+ * - 커서에 발급 당시의 정렬 조건을 함께 담는다 > 다른 정렬로 재사용하면 400
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final Map<String, Class<?>> sortableProperties = Map.of(
+            "id", Long.class,
+            "username", String.class,
+            "age", Integer.class
+    );
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(ScrollPosition position, Sort sort) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new Payload(signature(sort), keyset.getKeys()));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("커서를 생성할 수 없습니다", e);
+        }
+    }
+
+    public static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Payload payload = objectMapper.readValue(new String(json, StandardCharsets.UTF_8), Payload.class);
+            if (payload.keys() == null || !signature(sort).equals(payload.sort())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "커서를 발급한 정렬 조건과 다릅니다");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            payload.keys().forEach((property, value) -> keys.put(property, convert(property, value)));
+            return ScrollPosition.forward(keys);
+        } catch (ResponseStatusException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다", e);
+        }
+    }
+
+    //@PageableDefault 로 받은 정렬 중 키셋으로 사용할 수 있는 필드만 허용
+    public static Sort validate(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!sortableProperties.containsKey(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+        }
+        return sort;
+    }
+
+    //정렬 조건 비교용 문자열 - username:ASC,id:DESC
+    private static String signature(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+
+    private static Object convert(String property, Object value) {
+        Class<?> type = sortableProperties.get(property);
+        if (type == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다");
+        }
+        if (value == null || type == String.class) {
+            return value;
+        }
+        Number number = (Number) value;
+        return type == Long.class ? Long.valueOf(number.longValue()) : Integer.valueOf(number.intValue());
+    }
+
+    record Payload(String sort, Map<String, Object> keys) {
+    }
+
+}
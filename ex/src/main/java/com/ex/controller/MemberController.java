@@ -1,22 +1,37 @@
 package com.ex.controller;
 
 import com.ex.dto.MemberDto;
+import com.ex.dto.MemberSummaryDto;
+import com.ex.dto.MemberWindowDto;
 import com.ex.entity.Member;
 import com.ex.repository.MemberRepository;
-import jakarta.annotation.PostConstruct;
+import com.ex.service.MemberQueryService;
+import com.ex.service.MemberSearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 public class MemberController {
 
     private final MemberRepository memberRepository;
+    private final MemberQueryService memberQueryService;
+    private final MemberSearchService memberSearchService;
 
     /**
      * 도메인 클래스 컨버터
@@ -30,6 +45,21 @@ public class MemberController {
         return member.getUsername();
     }
 
+    /**
+     * 회원 요약 - 회원, 전체 회원 수, 전체 팀 수를 동시에 조회 (MemberQueryService)
+     * - CompletableFuture 를 반환하면 요청 스레드는 바로 반환되고 조회가 끝나면 응답
+     */
+    @GetMapping("/members/{id}/summary")
+    public CompletableFuture<MemberSummaryDto> findMemberSummary(@PathVariable("id") Long id) {
+        CompletableFuture<MemberDto> member = memberQueryService.findMember(id)
+                .thenApply(found -> found.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)));
+        CompletableFuture<Long> totalMembers = memberQueryService.countMembers();
+        CompletableFuture<Long> totalTeams = memberQueryService.countTeams();
+
+        return CompletableFuture.allOf(member, totalMembers, totalTeams)
+                .thenApply(done -> new MemberSummaryDto(member.join(), totalMembers.join(), totalTeams.join()));
+    }
+
     /**
      * 페이징&정렬 확장
      * - PageRequest 객체를 생성해준다
@@ -37,17 +67,49 @@ public class MemberController {
      * - @PageableDefault 로 사이즈와 정렬 등을 개별 설정할 수 있음
      * - 페이징 정보가 둘 이상이면 @Qualifier("member") 접두사로 구분 가능
      * - 응답에 현재 페이지, 전체 페이지 수, 페이지 사이즈 등 페이징과 정렬에 대한 정보 제공
+     * - 전체 건수는 테이블 통계의 예상 행 수 사용 (findMemberPage - @CountStrategy(ESTIMATED))
      */
     @GetMapping("/members")
     public Page<MemberDto> findMembers(@PageableDefault(size = 5, sort = "username") Pageable pageable) {
-        return memberRepository.findAll(pageable).map(MemberDto::new);
+        return memberRepository.findMemberPage(pageable).map(MemberDto::new);
+    }
+
+    /**
+     * 키셋(seek) 페이징
+     * - /members/scroll?size=5&sort=username,desc&cursor=...
+     * - OFFSET 을 사용하지 않으므로 뒤쪽 페이지로 가도 조회 비용이 일정하다
+     * - 카운트 쿼리를 실행하지 않는다 > 전체 페이지 수 대신 다음 페이지 유무(hasNext)만 제공
+     * - 정렬은 @PageableDefault 와 동일하게 지정하고 page 파라미터는 무시한다
+     * - 응답의 next 값을 다음 요청의 cursor 로 넘긴다 (정렬을 바꾸면 400, 처음부터 다시 조회)
+     */
+    @GetMapping("/members/scroll")
+    public MemberWindowDto scrollMembers(@PageableDefault(size = 5, sort = "username") Pageable pageable,
+                                         @RequestParam(value = "cursor", required = false) String cursor) {
+        Sort sort = KeysetCursor.validate(pageable.getSort());
+        KeysetScrollPosition position = KeysetCursor.decode(cursor, sort);
+        Window<Member> window = memberRepository.findMembersBy(position, sort, Limit.of(pageable.getPageSize()));
+
+        String next = window.hasNext() ? KeysetCursor.encode(window.positionAt(window.size() - 1), sort) : null;
+        return new MemberWindowDto(window.map(MemberDto::new).getContent(), next, window.hasNext());
+    }
+
+    /**
+     * 회원 이름 검색 (메모리 인덱스, MemberSearchService)
+     * - /members/search?q=mem : 접두사 검색, 이름 사전 순
+     * - /members/search?q=membr&fuzzy=true : 오타 허용 검색, 가까운 순
+     * - 정렬 파라미터는 무시한다 (인덱스 결과 순서)
+     */
+    @GetMapping("/members/search")
+    public Page<MemberDto> searchMembers(@RequestParam("q") String query,
+                                         @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                         @PageableDefault(size = 5) Pageable pageable) {
+        return memberSearchService.search(query, fuzzy, pageable);
     }
 
-    @PostConstruct
-    public void init() {
-        for(int i = 1; i <= 100; i++) {
-            memberRepository.save(new Member("member" + i, 20 + i));
-        }
+    @GetMapping("/members/search/ids")
+    public List<Long> searchMemberIds(@RequestParam("q") String query,
+                                      @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        return memberSearchService.searchIds(query, fuzzy);
     }
 
 }
@@ -0,0 +1,99 @@
+package com.ex.controller;
+
+import com.ex.dto.MemberDto;
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * 회원 전체 내보내기
+ * - 결과를 메모리에 모으지 않고 한 건씩 읽어서 바로 응답에 쓴다
+ * - StreamingResponseBody 는 별도 스레드에서 실행되므로 트랜잭션을 직접 연다
+ */
+@RestController
+public class MemberExportController {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MemberExportController(MemberRepository memberRepository, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @GetMapping(value = "/members/export.ndjson", produces = "application/x-ndjson")
+    public StreamingResponseBody exportNdjson() {
+        return export(null, (writer, member) -> {
+            writer.write(objectMapper.writeValueAsString(member));
+            writer.write('\n');
+        });
+    }
+
+    @GetMapping(value = "/members/export.csv", produces = "text/csv")
+    public StreamingResponseBody exportCsv() {
+        return export("id,username,teamName\n", (writer, member) -> {
+            writer.write(String.valueOf(member.id()));
+            writer.write(',');
+            writer.write(csv(member.username()));
+            writer.write(',');
+            writer.write(csv(member.teamName()));
+            writer.write('\n');
+        });
+    }
+
+    private StreamingResponseBody export(String header, RowWriter rowWriter) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (header != null) {
+                writer.write(header);
+            }
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Member> members = memberRepository.streamMembers(FETCH_SIZE)) {
+                    members.map(MemberDto::new).forEach(member -> {
+                        try {
+                            rowWriter.write(writer, member);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Writer writer, MemberDto member) throws IOException;
+    }
+
+}
@@ -1,22 +1,32 @@
 package com.ex.dto;
 
 import com.ex.entity.Member;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import com.ex.projections.ProjectionMapper;
+import jakarta.persistence.Tuple;
 
-@Data
-@AllArgsConstructor
-public class MemberDto {
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
-    private Long id;
+public record MemberDto(Long id, String username, String teamName) {
 
-    private String username;
+    //Tuple, ResultSet 의 별칭(id, username, teamName)으로 매핑
+    public static final ProjectionMapper<MemberDto> MAPPER = new ProjectionMapper<>() {
 
-    private String teamName;
+        @Override
+        public MemberDto map(Tuple tuple) {
+            return new MemberDto(
+                    tuple.get("id", Long.class),
+                    tuple.get("username", String.class),
+                    tuple.get("teamName", String.class));
+        }
+
+        @Override
+        public MemberDto map(ResultSet rs) throws SQLException {
+            return new MemberDto(rs.getLong("id"), rs.getString("username"), rs.getString("teamName"));
+        }
+    };
 
     public MemberDto(Member member) {
-        this.id = member.getId();
-        this.username = member.getUsername();
-        this.teamName = member.getTeam().getName();
+        this(member.getId(), member.getUsername(), member.getTeam() != null ? member.getTeam().getName() : null);
     }
 }
@@ -0,0 +1,4 @@
+package com.ex.dto;
+
+public record MemberSummaryDto(MemberDto member, long totalMembers, long totalTeams) {
+}
@@ -0,0 +1,18 @@
+package com.ex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class MemberWindowDto {
+
+    private List<MemberDto> content;
+
+    private String next; //다음 요청의 cursor 로 전달, 마지막이면 null
+
+    private boolean hasNext;
+
+}
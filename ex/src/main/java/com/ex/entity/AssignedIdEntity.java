@@ -0,0 +1,33 @@
+package com.ex.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 식별자를 직접 할당하는 엔티티의 공통 부모
+ * - 식별자가 있어도 새로 만든 객체면 isNew = true > save 가 merge(SELECT) 대신 persist 를 호출
+ * - 저장(@PostPersist)되거나 조회(@PostLoad)되면 isNew = false
+ * - 식별자 필드와 getId 는 자식 엔티티에서 선언 (컬럼 이름, 타입이 엔티티마다 다르다)
+ * - DB 에 있는 행을 새 객체로 만들어 변경할 때는 save 대신 AssignedIdRepository.update 사용
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+}
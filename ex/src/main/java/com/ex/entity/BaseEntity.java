@@ -3,6 +3,7 @@ package com.ex.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -23,4 +24,9 @@ public class BaseEntity extends BaseTimeEntity {
     @LastModifiedBy
     private String modifiedBy;
 
+    //낙관적 락 - UPDATE 시 where version = ? 로 충돌 감지, 충돌하면 OptimisticLockException
+    //벌크 연산은 update versioned 로 버전을 함께 올린다
+    @Version
+    private Long version;
+
 }
@@ -1,14 +1,13 @@
 package com.ex.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -16,7 +15,7 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Item implements Persistable<String> {
+public class Item extends AssignedIdEntity<String> {
 
     /**
      * 새로운 엔티티를 구별하는 방법
@@ -30,13 +29,15 @@ public class Item implements Persistable<String> {
      * 이미 식별자 값이 있는 상태로 save 를 호출하기 때문에 merge 가 호출된다
      * merge 는 우선 DB 를 호출해서 값을 확인하고 DB에 값이 없으면 새로운 엔티티로 인지하기
      * 때문에 매우 비효율 적이다
-     * - Persistable 인터페이스를 구현해서 판단 로직 변경 가능
+     * - Persistable 인터페이스를 구현해서 판단 로직 변경 가능 > AssignedIdEntity
      */
 
     @Id
     private String id;
 
+    @Getter
     @CreatedDate
+    @Column(updatable = false)
     private LocalDateTime createdDate;
 
     public Item(String id) {
@@ -45,12 +46,7 @@ public class Item implements Persistable<String> {
 
     @Override
     public String getId() {
-        return null;
-    }
-
-    @Override
-    public boolean isNew() {
-        return createdDate == null;
+        return id;
     }
 
 }
@@ -1,5 +1,6 @@
 package com.ex.entity;
 
+import com.ex.support.CoarseClock;
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
@@ -21,14 +22,14 @@ public class JpaBaseEntity {
 
     @PrePersist //저장되기 전 실행
     public void prePersist() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = CoarseClock.shared().now(); //저해상도 시계 - 호출마다 시간 계산을 하지 않는다
         this.createdDate = now;
         this.updatedDate = now;
     }
 
     @PreUpdate //업데이트 전 실행
     public void preUpdate() {
-        this.updatedDate = LocalDateTime.now();
+        this.updatedDate = CoarseClock.shared().now();
     }
 
 }
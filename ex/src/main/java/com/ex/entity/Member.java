@@ -1,21 +1,33 @@
 package com.ex.entity;
 
+import com.ex.support.MemberSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+
+import java.util.List;
 
 @Entity
+@EntityListeners(MemberSearchIndexListener.class) //이름 검색 인덱스 동기화, 감사(Auditing) 리스너는 BaseEntity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "username", "age"})
 @NamedQuery(
         name="Member.findByUsername",
-        query="select m from Member m where m.username = :username" //문법에 오류가 있으면 애플리케이션 로딩 시점에 알 수 있다
+        query="select m from Member m where m.username = :username", //문법에 오류가 있으면 애플리케이션 로딩 시점에 알 수 있다
+        hints = { //쿼리 캐시 - member 테이블에 INSERT/UPDATE/DELETE(벌크 연산 포함)가 발생하면 Hibernate 가 자동으로 무효화
+                @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                @QueryHint(name = "org.hibernate.cacheRegion", value = "member-query")
+        }
 )
 @NamedEntityGraph(name = "Member.all", attributeNodes = @NamedAttributeNode("team"))
+@SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 50)
 public class Member extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    //IDENTITY 는 persist 시점에 INSERT 가 바로 나가서 JDBC 배치가 불가능
+    //SEQUENCE + allocationSize 로 식별자를 미리 할당(pooled) 받으면 INSERT 를 모아서 보낼 수 있다
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
     @Column(name = "member_id")
     private Long id;
 
@@ -45,12 +57,25 @@ public class Member extends BaseEntity {
     }
 
     public void changeTeam(Team team) {
+        if (this.team == team) {
+            return;
+        }
         this.team = team;
-        team.getMembers().add(this);
+        //바이트코드 향상(associationManagement)이 켜져 있으면 위 대입에서 이미 team.members 에 추가된다
+        //초기화되지 않은 컬렉션에 contains 를 호출하면 팀의 회원 전체를 조회한다
+        //> 초기화된 경우만 중복 확인, 아니면 add 만 (mappedBy 컬렉션은 초기화하지 않고 큐에 쌓았다가 초기화될 때 반영)
+        List<Member> members = team.getMembers();
+        if (!Hibernate.isInitialized(members) || !members.contains(this)) {
+            members.add(this);
+        }
     }
 
     public void updateUsername(String username) {
         this.username = username;
     }
 
+    public void increaseAge() {
+        this.age++;
+    }
+
 }
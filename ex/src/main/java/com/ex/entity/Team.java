@@ -2,6 +2,9 @@ package com.ex.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,15 +13,23 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "name"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team") //2차 캐시 - em.find, Member.team 지연 로딩이 DB 대신 캐시에서 조회
+@SequenceGenerator(name = "team_seq_generator", sequenceName = "team_seq", allocationSize = 50)
 public class Team extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    //IDENTITY 는 persist 시점에 INSERT 가 바로 나가서 JDBC 배치가 불가능
+    //SEQUENCE + allocationSize 로 식별자를 미리 할당(pooled) 받으면 INSERT 를 모아서 보낼 수 있다
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq_generator")
     @Column(name = "team_id")
     private Long id;
 
     private String name;
 
+    //연관관계별 배치 크기 지정 - default_batch_fetch_size 보다 우선
+    //배치 크기만큼 파라미터를 채워서(padding) 조회하므로 SQL 모양이 일정하게 유지된다
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "team")
     private List<Member> members = new ArrayList<>();
 
@@ -0,0 +1,12 @@
+package com.ex.projections;
+
+import org.springframework.beans.factory.annotation.Value;
+
+public interface OpenUsernameOnly {
+
+    //인터페이스 기반 Open Projections
+    //엔티티 전체를 조회한 뒤 getter 를 호출할 때마다 프록시에서 SpEL 을 평가한다 > SELECT 절 최적화 불가, 호출마다 비용 발생
+    @Value("#{target.username + ' ' + target.age}")
+    String getUsername();
+
+}
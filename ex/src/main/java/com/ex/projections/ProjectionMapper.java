@@ -0,0 +1,25 @@
+package com.ex.projections;
+
+import jakarta.persistence.Tuple;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 조회 결과 한 행 > DTO(record) 매핑
+ * - 리플렉션이나 프록시 없이 생성자를 직접 호출한다
+ * - 컬럼은 별칭으로 찾는다 (JPQL Tuple, JDBC ResultSet 공통)
+ * - 매퍼는 DTO 에 MAPPER 상수로 두고 ProjectionMappers 에 등록한다
+ */
+public interface ProjectionMapper<T> {
+
+    T map(Tuple tuple);
+
+    T map(ResultSet rs) throws SQLException;
+
+    default RowMapper<T> rowMapper() {
+        return (rs, rowNum) -> map(rs);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.ex.projections;
+
+import com.ex.dto.MemberDto;
+
+import java.util.Map;
+
+/**
+ * 대상 타입별 ProjectionMapper
+ * - 애플리케이션 시작 시 한 번 만들어 두고 조회마다 Map 조회만 한다
+ * - 새 DTO 를 동적 조회 대상으로 쓰려면 여기에 등록 (MemberRepository.findProjectionsGenericByUsername)
+ * - UsernameOnly 는 UsernameOnlyDto 로 매핑 > 어느 경로로 조회해도 username + ' ' + age
+ */
+public final class ProjectionMappers {
+
+    private static final Map<Class<?>, ProjectionMapper<?>> mappers = Map.of(
+            MemberDto.class, MemberDto.MAPPER,
+            UsernameOnlyDto.class, UsernameOnlyDto.MAPPER,
+            UsernameOnly.class, UsernameOnlyDto.MAPPER
+    );
+
+    private ProjectionMappers() {
+    }
+
+    public static boolean supports(Class<?> type) {
+        return mappers.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ProjectionMapper<T> of(Class<T> type) {
+        ProjectionMapper<T> mapper = (ProjectionMapper<T>) mappers.get(type);
+        if (mapper == null) {
+            throw new IllegalArgumentException("등록되지 않은 프로젝션 타입: " + type.getName());
+        }
+        return mapper;
+    }
+
+}
@@ -1,14 +1,11 @@
 package com.ex.projections;
 
-import org.springframework.beans.factory.annotation.Value;
-
 public interface UsernameOnly {
 
     //인터페이스 기반 Closed Projections
-//    String getUsername();
-
-    //인터페이스 기반 Open Projections
-    @Value("#{target.username + ' ' + target.age}")
+    //Open Projections(SpEL) 은 OpenUsernameOnly 참고
+    //getUsername 은 항상 username + ' ' + age - 조회 쿼리의 생성자 표현식에서 계산해서 UsernameOnlyDto 로 반환한다
+    //스프링 데이터가 프록시로 만들면 username 만 담기므로 반환 타입으로 쓰는 쿼리는 모두 생성자 표현식을 거친다
     String getUsername();
 
 }
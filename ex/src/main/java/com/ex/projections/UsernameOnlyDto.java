@@ -1,14 +1,27 @@
 package com.ex.projections;
 
+import jakarta.persistence.Tuple;
 
-public class UsernameOnlyDto {
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
-    private final String username;
+//username + ' ' + age
+public record UsernameOnlyDto(String username) implements UsernameOnly {
 
-    public UsernameOnlyDto(String username) {
-        this.username = username;
-    }
+    public static final ProjectionMapper<UsernameOnlyDto> MAPPER = new ProjectionMapper<>() {
+
+        @Override
+        public UsernameOnlyDto map(Tuple tuple) {
+            return new UsernameOnlyDto(tuple.get("username", String.class) + " " + tuple.get("age", Integer.class));
+        }
+
+        @Override
+        public UsernameOnlyDto map(ResultSet rs) throws SQLException {
+            return new UsernameOnlyDto(rs.getString("username") + " " + rs.getInt("age"));
+        }
+    };
 
+    @Override
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,21 @@
+package com.ex.repository;
+
+import com.ex.entity.AssignedIdEntity;
+
+/**
+ * 식별자를 직접 할당하는 엔티티용 저장 API
+ * - save 의 persist/merge 판단 없이 호출하는 쪽이 INSERT 와 UPDATE 를 명시
+ * - 리포지토리 인터페이스에서 함께 상속해서 사용 (AssignedIdRepositoryImpl 이 구현)
+ */
+public interface AssignedIdRepository<T extends AssignedIdEntity<?>> {
+
+    //SELECT 없이 INSERT, 이미 있는 식별자면 flush 시점에 제약 조건 위반
+    T insert(T entity);
+
+    //존재하는 행만 변경, 없으면 EntityNotFoundException
+    T update(T entity);
+
+    //JDBC 배치 INSERT
+    void insertAll(Iterable<T> entities);
+
+}
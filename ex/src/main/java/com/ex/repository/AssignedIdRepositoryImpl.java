@@ -0,0 +1,73 @@
+package com.ex.repository;
+
+import com.ex.entity.AssignedIdEntity;
+import com.ex.support.AuditingSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class AssignedIdRepositoryImpl<T extends AssignedIdEntity<?>> implements AssignedIdRepository<T> {
+
+    private final EntityManager em;
+    private final AuditingSupport auditingSupport;
+    private final PersistenceContextGovernor persistenceContextGovernor;
+
+    @Override
+    @Transactional
+    public T insert(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+
+    /**
+     * 명시적 변경
+     * - 영속 상태면 변경 감지로 처리
+     * - 준영속/새 객체면 식별자로 조회해서 존재를 확인한 뒤 값을 복사 (merge 처럼 INSERT 로 바뀌지 않는다)
+     * - 변경 불가(updatable = false) 컬럼은 조회한 값을 유지 > 새 객체의 null 이 createdDate, createdBy 를 덮어쓰지 않는다
+     */
+    @Override
+    @Transactional
+    public T update(T entity) {
+        if (em.contains(entity)) {
+            return entity;
+        }
+        Object found = em.find(entity.getClass(), entity.getId());
+        if (found == null) {
+            throw new EntityNotFoundException(entity.getClass().getSimpleName() + " not found: " + entity.getId());
+        }
+        EntityPersister persister = em.unwrap(SessionImplementor.class).getEntityPersister(null, found);
+        Object[] values = persister.getValues(found);
+        T merged = em.merge(entity); //이미 영속성 컨텍스트에 있으므로 추가 SELECT 없음
+        boolean[] updatable = persister.getPropertyUpdateability();
+        for (int i = 0; i < updatable.length; i++) {
+            if (!updatable[i]) {
+                persister.setValue(merged, i, values[i]);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 대량 INSERT
+     * - 식별자가 이미 있으므로 SELECT 없이 persist, BATCH_SIZE 마다 flush/clear (saveAllBatched 와 같은 방식)
+     */
+    @Override
+    @Transactional
+    public void insertAll(Iterable<T> entities) {
+        auditingSupport.batch(() -> {
+            int count = 0;
+            for (T entity : entities) {
+                em.persist(entity);
+                if (++count % PersistenceContextGovernor.BATCH_SIZE == 0) {
+                    persistenceContextGovernor.flushAndClear(em, "batch");
+                }
+            }
+            persistenceContextGovernor.flushAndClear(em, "batch");
+        });
+    }
+
+}
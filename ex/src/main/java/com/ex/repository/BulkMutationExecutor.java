@@ -0,0 +1,105 @@
+package com.ex.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 식별자 범위 분할 벌크 연산
+ * - UPDATE 한 번으로 전체를 바꾸면 락을 오래 잡고 언두 로그가 커진다
+ * - [minId, maxId] 를 chunkSize 범위로 나눠서 범위마다 별도 트랜잭션으로 실행하고 바로 커밋
+ * - 범위는 고정 크기 스레드 풀에서 병렬로 실행 (동시에 잡는 커넥션 수 = parallelism)
+ * - 범위마다 진행률과 소요 시간을 로그로 남기고 결과로 반환
+ * - 범위마다 커밋하므로 중간에 실패하면 앞선 범위는 이미 반영된 상태 > 조건을 다시 실행해도 안전한 연산에 사용
+ * - 트랜잭션 안에서 호출하면 IllegalStateException
+ *   > 호출한 트랜잭션이 잡고 있는 행 락을 범위 트랜잭션(다른 스레드)이 기다리고, 호출한 스레드는 범위 결과를 기다리는 교착 상태가 된다
+ */
+@Slf4j
+@Component
+public class BulkMutationExecutor implements DisposableBean {
+
+    private final TransactionTemplate chunkTransaction;
+    private final ExecutorService executor;
+
+    public BulkMutationExecutor(PlatformTransactionManager transactionManager,
+                                @Value("${ex.bulk.parallelism:4}") int parallelism) {
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-mutation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public BulkMutationResult execute(String name, long minId, long maxId, int chunkSize, ChunkMutation mutation) {
+        Assert.isTrue(chunkSize > 0, "chunkSize 는 0보다 커야 합니다");
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(name + " 분할 벌크 연산은 트랜잭션 밖에서 호출해야 합니다");
+        }
+        long started = System.nanoTime();
+        int totalChunks = (int) ((maxId - minId) / chunkSize + 1);
+        AtomicInteger completed = new AtomicInteger();
+
+        List<CompletableFuture<BulkMutationResult.Chunk>> futures = new ArrayList<>();
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            long fromId = from;
+            long toId = Math.min(from + chunkSize - 1, maxId);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                long chunkStarted = System.nanoTime();
+                Integer updated = chunkTransaction.execute(status -> mutation.execute(fromId, toId));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStarted);
+                log.info("{} - {}/{} [{}..{}] updated={} {}ms",
+                        name, completed.incrementAndGet(), totalChunks, fromId, toId, updated, elapsedMillis);
+                return new BulkMutationResult.Chunk(fromId, toId, updated == null ? 0 : updated, elapsedMillis);
+            }, executor));
+        }
+
+        List<BulkMutationResult.Chunk> chunks = new ArrayList<>();
+        try {
+            for (CompletableFuture<BulkMutationResult.Chunk> future : futures) {
+                chunks.add(future.join());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        chunks.sort(Comparator.comparingLong(BulkMutationResult.Chunk::fromId));
+
+        int updated = chunks.stream().mapToInt(BulkMutationResult.Chunk::updated).sum();
+        return new BulkMutationResult(updated, chunks, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    public interface ChunkMutation {
+
+        //[fromId, toId] 범위를 변경하고 변경된 행 수를 반환, 트랜잭션 안에서 호출된다
+        int execute(long fromId, long toId);
+
+    }
+
+}
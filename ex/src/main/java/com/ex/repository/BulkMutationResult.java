@@ -0,0 +1,15 @@
+package com.ex.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 분할 벌크 연산 결과
+ * - chunks 는 식별자 범위 순서
+ */
+public record BulkMutationResult(int updated, List<Chunk> chunks, Duration elapsed) {
+
+    public record Chunk(long fromId, long toId, int updated, long elapsedMillis) {
+    }
+
+}
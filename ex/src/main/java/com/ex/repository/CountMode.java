@@ -0,0 +1,14 @@
+package com.ex.repository;
+
+public enum CountMode {
+
+    //매번 카운트 쿼리 실행
+    EXACT,
+
+    //조회 조건별로 전체 건수를 ttlSeconds 동안 재사용
+    CACHED,
+
+    //테이블 통계의 예상 행 수 사용 - 조건 없는 전체 조회에만 사용해야 한다
+    ESTIMATED
+
+}
@@ -0,0 +1,23 @@
+package com.ex.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 페이징 전체 건수(total count) 계산 방식 지정
+ * - PageCountSupport 로 페이지를 만드는 리포지토리 구현 메서드에 붙인다
+ * - 마지막 페이지처럼 전체 건수를 알 수 있는 경우에는 방식과 관계없이 카운트를 생략한다
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CountStrategy {
+
+    CountMode value() default CountMode.EXACT;
+
+    long ttlSeconds() default 10;
+
+}
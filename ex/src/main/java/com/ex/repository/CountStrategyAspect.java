@@ -0,0 +1,39 @@
+package com.ex.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * @CountStrategy 가 붙은 메서드 실행 동안 PageCountSupport 에 카운트 방식을 전달
+ * - 캐시 키는 메서드 + Pageable 을 제외한 파라미터 > 같은 조건이면 페이지가 달라도 전체 건수를 재사용
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CountStrategyAspect {
+
+    private final PageCountSupport pageCountSupport;
+
+    @Around("@annotation(countStrategy)")
+    public Object applyCountStrategy(ProceedingJoinPoint joinPoint, CountStrategy countStrategy) throws Throwable {
+        String key = joinPoint.getSignature().toLongString() + Arrays.stream(joinPoint.getArgs())
+                .filter(arg -> !(arg instanceof Pageable))
+                .map(Objects::toString)
+                .collect(Collectors.joining(",", "(", ")"));
+        Object previous = pageCountSupport.enter(countStrategy, key);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            pageCountSupport.exit(previous);
+        }
+    }
+
+}
@@ -3,5 +3,5 @@ package com.ex.repository;
 import com.ex.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, String>, AssignedIdRepository<Item> {
 }
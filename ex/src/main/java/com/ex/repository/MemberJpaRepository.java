@@ -3,19 +3,26 @@ package com.ex.repository;
 import com.ex.entity.Member;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@RequiredArgsConstructor
 public class MemberJpaRepository {
 
     @PersistenceContext
     private EntityManager em;
 
+    private final PageCountSupport pageCountSupport;
+    private final PersistenceContextGovernor persistenceContextGovernor;
+
+    //긴 트랜잭션에서 반복 호출해도 영속성 컨텍스트가 기준 이상 커지지 않는다 (PersistenceContextGovernor)
     public Member save(Member member) {
         em.persist(member);
+        persistenceContextGovernor.afterWrite(em);
         return member;
     }
 
@@ -67,8 +74,14 @@ public class MemberJpaRepository {
                 .getSingleResult();
     }
 
+    //나이별 전체 건수를 잠시 캐시 (PageCountSupport), member 테이블에 쓰기가 있으면 다시 계산
+    @CountStrategy(CountMode.CACHED)
+    public long cachedTotalCount(int age) {
+        return pageCountSupport.count("member", () -> totalCount(age));
+    }
+
     public int bulkAgePlus(int age) {
-        return em.createQuery("update Member m set m.age = m.age + 1 where m.age >= :age")
+        return em.createQuery("update versioned Member m set m.age = m.age + 1 where m.age >= :age")
                 .setParameter("age", age)
                 .executeUpdate();
     }
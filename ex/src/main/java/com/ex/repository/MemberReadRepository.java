@@ -0,0 +1,95 @@
+package com.ex.repository;
+
+import com.ex.dto.MemberDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회 전용 리포지토리 - JdbcTemplate 로 DTO 를 바로 매핑
+ * - 엔티티, 스냅샷, 영속성 컨텍스트를 거치지 않으므로 변경 감지와 1차 캐시 비용이 없다
+ * - 같은 트랜잭션이면 JPA 와 같은 커넥션을 사용한다 (조회 전에 flush 된 내용까지 보인다)
+ * - 읽기 전용 트랜잭션 > 읽기/쓰기 분리 시 replica 에서 조회
+ * - MemberRepository 의 findUsernameList, findMemberDto, findByNativeProjection 대응
+ */
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemberReadRepository {
+
+    private static final RowMapper<MemberDto> memberDtoMapper = MemberDto.MAPPER.rowMapper();
+
+    //정렬 속성(MemberDto 필드) > 컬럼
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "m.member_id",
+            "username", "m.username",
+            "teamName", "t.name");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findUsernameList() {
+        return jdbcTemplate.queryForList("select username from member", String.class);
+    }
+
+    public List<MemberDto> findMemberDto() {
+        return jdbcTemplate.query(
+                "select m.member_id as id, m.username, t.name as teamName " +
+                "from member m " +
+                "join team t on t.team_id = m.team_id",
+                memberDtoMapper);
+    }
+
+    //findByNativeProjection 대응
+    //원본 네이티브 쿼리는 on 절 없는 left join 이라 회원 x 팀 행이 나왔다 > 회원의 팀으로 left join, 회원당 한 행 (팀이 없으면 teamName null)
+    //카운트(회원 수)와 내용의 행 수가 일치한다
+    //정렬은 SORT_COLUMNS 에 있는 속성만 허용 (SQL 에 그대로 붙으므로), 마지막에 회원 id 를 붙여 순서를 고정
+    public Page<MemberDto> findMemberPage(Pageable pageable) {
+        List<MemberDto> content = jdbcTemplate.query(
+                "select m.member_id as id, m.username, t.name as teamName " +
+                "from member m " +
+                "left join team t on t.team_id = m.team_id " +
+                "order by " + orderBy(pageable.getSort()) + " " +
+                "limit ? offset ?",
+                memberDtoMapper, pageable.getPageSize(), pageable.getOffset());
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject("select count(*) from member", Long.class));
+    }
+
+    private static String orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            orderBy.append(column).append(order.isAscending() ? " asc" : " desc").append(", ");
+        }
+        return orderBy.append("m.member_id").toString();
+    }
+
+    //검색 인덱스 결과(id 목록) 조회, 순서는 보장하지 않는다
+    public List<MemberDto> findMemberDtoByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "select m.member_id as id, m.username, t.name as teamName " +
+                "from member m " +
+                "left join team t on t.team_id = m.team_id " +
+                "where m.member_id in (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")",
+                memberDtoMapper, ids.toArray());
+    }
+
+}
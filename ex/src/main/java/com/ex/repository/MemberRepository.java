@@ -3,14 +3,21 @@ package com.ex.repository;
 import com.ex.dto.MemberDto;
 import com.ex.entity.Member;
 import com.ex.projections.MemberProjection;
+import com.ex.projections.OpenUsernameOnly;
+import com.ex.projections.ProjectionMappers;
 import com.ex.projections.UsernameOnly;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -70,9 +77,14 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     Page<Member> findByAge(int age, Pageable pageable);
     Slice<Member> findSliceByAge(int age, Pageable pageable);
 
+    //키셋(seek) 페이징 - OFFSET 대신 마지막 행의 정렬 키 다음부터 조회, 카운트 쿼리 없음
+    //정렬 조건 마지막에 식별자(id)가 자동으로 추가되어 (username, id) 처럼 유일한 순서가 보장된다
+    @EntityGraph(attributePaths = {"team"})
+    Window<Member> findMembersBy(ScrollPosition position, Sort sort, Limit limit);
+
     //벌크 업데이트
     @Modifying(clearAutomatically = true) //해당 애노테이션이 있어야 executeUpdate 를 실행, clearAutomatically > 영속성 컨텍스트 자동 초기화
-    @Query("update Member m set m.age = m.age + 1 where m.age >= 20")
+    @Query("update versioned Member m set m.age = m.age + 1 where m.age >= :age")
     int bulkAgePlus(@Param("age") int age);
 
     //페치 조인
@@ -92,6 +104,8 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     List<Member> findNamedEntityGraphByUsername(String username);
 
     //JPA 힌트 - JPA 구현체에게 제공하는 힌트
+    //읽기 전용 트랜잭션 > 읽기/쓰기 분리 시 replica 에서 조회
+    @Transactional(readOnly = true)
     @QueryHints(value = @QueryHint(name = "org.hibernate.readOnly", value = "true"))
     Member findReadOnlyByUsername(String username);
 
@@ -101,13 +115,31 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
 
     //스프링 데이터 Projection
     //인터페이스 기반
-    List<UsernameOnly> findProjectionsByUsername(String username);
+    //username + ' ' + age 를 생성자 표현식으로 DB 에서 계산 > 컬럼 하나만 조회, 엔티티와 SpEL 프록시를 만들지 않는다
+    //UsernameOnlyDto 가 UsernameOnly 를 구현하므로 그대로 반환된다
+    @Query("select new com.ex.projections.UsernameOnlyDto(concat(m.username, ' ', cast(m.age as String))) " +
+            "from Member m where m.username = :username")
+    List<UsernameOnly> findProjectionsByUsername(@Param("username") String username);
+
+    //인터페이스 기반 Open Projection (SpEL) - 엔티티 전체 조회
+    List<OpenUsernameOnly> findOpenProjectionsByUsername(String username);
 
     //클래스 기반
+    //스프링 데이터가 생성자 파라미터 이름(username)으로 채우면 age 가 빠진다 > UsernameOnlyDto 는 동적 조회(매퍼)로 조회
     //List<UsernameOnlyDto> findProjectionsByUsername(String username);
 
     //동적
-    <T> List<T> findProjectionsGenericByUsername(String username, Class<T> type);
+    //ProjectionMappers 에 등록된 타입(MemberDto, UsernameOnlyDto, UsernameOnly)은 ProjectionMapper 로 변환 (리플렉션, 프록시 없음)
+    //UsernameOnly, UsernameOnlyDto 는 어느 경로로 조회해도 username + ' ' + age
+    //그 외 타입은 스프링 데이터 동적 Projection
+    default <T> List<T> findProjectionsGenericByUsername(String username, Class<T> type) {
+        if (ProjectionMappers.supports(type)) {
+            return findMappedByUsername(username, type);
+        }
+        return findProjectedByUsername(username, type);
+    }
+
+    <T> List<T> findProjectedByUsername(String username, Class<T> type);
 
     //네이티브 쿼리
     @Query(value = "select * from member where username = ?", nativeQuery = true)
@@ -1,11 +1,29 @@
 package com.ex.repository;
 
 import com.ex.entity.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MemberRepositoryCustom {
 
     List<Member> findMemberCustom();
 
+    void saveAllBatched(Iterable<Member> members);
+
+    Stream<Member> streamMembers(int fetchSize);
+
+    Page<Member> findPageByAge(int age, Pageable pageable);
+
+    Page<Member> findMemberPage(Pageable pageable);
+
+    <T> List<T> findMappedByUsername(String username, Class<T> type);
+
+    void initialize(Collection<Member> members, String attribute);
+
+    BulkMutationResult bulkAgePlusChunked(int age, int chunkSize);
+
 }
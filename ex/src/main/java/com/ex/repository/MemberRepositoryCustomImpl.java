@@ -1,10 +1,30 @@
 package com.ex.repository;
 
 import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.projections.ProjectionMapper;
+import com.ex.projections.ProjectionMappers;
+import com.ex.support.AuditingSupport;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 //구현 클래스 네이밍 규칙
@@ -12,6 +32,10 @@ import java.util.List;
 public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
     private final EntityManager em;
+    private final PageCountSupport pageCountSupport;
+    private final BulkMutationExecutor bulkMutationExecutor;
+    private final AuditingSupport auditingSupport;
+    private final PersistenceContextGovernor persistenceContextGovernor;
 
     @Override
     public List<Member> findMemberCustom() {
@@ -19,4 +43,175 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
                 .getResultList();
     }
 
+    /**
+     * 대량 저장
+     * - BATCH_SIZE 마다 flush 로 INSERT 를 JDBC 배치로 보내고 clear 로 영속성 컨텍스트를 비운다
+     * - 영속성 컨텍스트가 계속 커지지 않으므로 메모리와 dirty checking 비용이 일정
+     * - clear 하기 때문에 호출한 쪽의 트랜잭션에서 관리하던 엔티티도 준영속 상태가 된다
+     * - 팀은 미리 저장되어 있어야 한다(cascade 없음)
+     * - 등록자/등록 시간은 한 번만 계산해서 모든 회원에 같은 값으로 기록 (AuditingSupport.batch)
+     * - flush/clear 횟수는 jpa.persistence.context.clears(reason=batch) 로 확인
+     */
+    @Override
+    @Transactional
+    public void saveAllBatched(Iterable<Member> members) {
+        auditingSupport.batch(() -> {
+            int count = 0;
+            for (Member member : members) {
+                em.persist(member);
+                if (++count % PersistenceContextGovernor.BATCH_SIZE == 0) {
+                    persistenceContextGovernor.flushAndClear(em, "batch");
+                }
+            }
+            persistenceContextGovernor.flushAndClear(em, "batch");
+        });
+    }
+
+    /**
+     * 스트리밍 조회
+     * - getResultStream 은 내부적으로 FORWARD_ONLY ScrollableResults(JDBC 커서)를 사용한다
+     * - 전체 결과를 List 로 만들지 않고 fetchSize 만큼씩 읽어오므로 테이블 크기와 무관하게 메모리가 일정
+     * - 읽은 엔티티는 바로 detach > 영속성 컨텍스트와 스냅샷이 쌓이지 않는다
+     * - 팀은 페치 조인으로 함께 조회 (detach 후 지연 로딩 불가)
+     * - 트랜잭션 안에서 호출하고 반드시 close 해야 커서와 커넥션이 반환된다 (try-with-resources)
+     */
+    @Override
+    public Stream<Member> streamMembers(int fetchSize) {
+        return em.createQuery("select m from Member m left join fetch m.team", Member.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(em::detach);
+    }
+
+    /**
+     * 카운트 최적화 페이징
+     * - 스프링 데이터의 Page 반환 쿼리 메서드는 카운트 쿼리 실행 방식을 바꿀 수 없어서 직접 구현
+     * - 전체 건수는 @CountStrategy 에 따라 PageCountSupport 가 계산
+     */
+    @Override
+    @CountStrategy(CountMode.CACHED)
+    public Page<Member> findPageByAge(int age, Pageable pageable) {
+        String query = QueryUtils.applySorting("select m from Member m where m.age = :age", pageable.getSort(), "m");
+        List<Member> content = em.createQuery(query, Member.class)
+                .setParameter("age", age)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return pageCountSupport.page(content, pageable, "member", () ->
+                em.createQuery("select count(m) from Member m where m.age = :age", Long.class)
+                        .setParameter("age", age)
+                        .getSingleResult());
+    }
+
+    //조건 없는 전체 조회 - 예상 행 수 사용
+    @Override
+    @CountStrategy(CountMode.ESTIMATED)
+    public Page<Member> findMemberPage(Pageable pageable) {
+        String query = QueryUtils.applySorting("select m from Member m left join fetch m.team", pageable.getSort(), "m");
+        List<Member> content = em.createQuery(query, Member.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return pageCountSupport.page(content, pageable, "member", () ->
+                em.createQuery("select count(m) from Member m", Long.class)
+                        .getSingleResult());
+    }
+
+    /**
+     * 동적 DTO 조회 (findProjectionsGenericByUsername 에서 등록된 타입일 때 호출)
+     * - 회원 + 팀 이름을 Tuple 로 한 번 조회하고 대상 타입에 등록된 ProjectionMapper 로 변환
+     * - 스프링 데이터 동적 Projection 과 달리 행마다 리플렉션, 프록시 생성이 없다
+     */
+    @Override
+    public <T> List<T> findMappedByUsername(String username, Class<T> type) {
+        ProjectionMapper<T> mapper = ProjectionMappers.of(type);
+        return em.createQuery(
+                        "select m.id as id, m.username as username, m.age as age, t.name as teamName" +
+                        " from Member m left join m.team t" +
+                        " where m.username = :username", Tuple.class)
+                .setParameter("username", username)
+                .getResultStream()
+                .map(mapper::map)
+                .toList();
+    }
+
+    /**
+     * 지연 로딩 연관관계 일괄 초기화
+     * - 아직 초기화되지 않은 프록시의 식별자만 모아서 한 번에(배치 크기 단위) 조회
+     * - 조회된 엔티티가 영속성 컨텍스트에 올라가므로 이후 프록시 접근 시 추가 쿼리가 없다
+     * - 이미 조회한 목록에 페치 조인을 적용하기 어려울 때 사용 (현재 team 만 지원)
+     */
+    @Override
+    public void initialize(Collection<Member> members, String attribute) {
+        if (!"team".equals(attribute)) {
+            throw new IllegalArgumentException("지원하지 않는 연관관계입니다: " + attribute);
+        }
+        List<Team> proxies = members.stream()
+                .map(Member::getTeam)
+                .filter(Objects::nonNull)
+                .filter(team -> !Hibernate.isInitialized(team))
+                .toList();
+        if (proxies.isEmpty()) {
+            return;
+        }
+        List<Object> teamIds = proxies.stream()
+                .map(team -> em.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(team))
+                .distinct()
+                .toList();
+        em.unwrap(Session.class)
+                .byMultipleIds(Team.class)
+                .withBatchSize(PersistenceContextGovernor.BATCH_SIZE)
+                .multiLoad(teamIds);
+        proxies.forEach(Hibernate::initialize); //영속성 컨텍스트에서 찾으므로 쿼리 없음
+    }
+
+    /**
+     * 분할 벌크 연산 - bulkAgePlus 의 대용량 버전
+     * - 대상 식별자 범위를 chunkSize 단위로 나눠서 병렬로 실행하고 범위마다 커밋 (BulkMutationExecutor)
+     * - 트랜잭션 밖에서만 호출할 수 있다 (BulkMutationExecutor)
+     * - OSIV 처럼 영속성 컨텍스트가 열려 있으면 전체를 비우지 않고 변경 대상인 엔티티만 detach
+     */
+    @Override
+    public BulkMutationResult bulkAgePlusChunked(int age, int chunkSize) {
+        Object[] range = em.createQuery("select min(m.id), max(m.id) from Member m where m.age >= :age", Object[].class)
+                .setParameter("age", age)
+                .getSingleResult();
+        if (range[0] == null) {
+            return new BulkMutationResult(0, List.of(), Duration.ZERO);
+        }
+        long minId = (Long) range[0];
+        long maxId = (Long) range[1];
+
+        BulkMutationResult result = bulkMutationExecutor.execute("Member.bulkAgePlus", minId, maxId, chunkSize,
+                (fromId, toId) -> em.createQuery(
+                                "update versioned Member m set m.age = m.age + 1 " +
+                                "where m.age >= :age and m.id between :fromId and :toId")
+                        .setParameter("age", age)
+                        .setParameter("fromId", fromId)
+                        .setParameter("toId", toId)
+                        .executeUpdate());
+
+        detachUpdatedMembers(age, minId, maxId);
+        return result;
+    }
+
+    //호출한 쪽 영속성 컨텍스트(OSIV)에서 변경 전 나이를 들고 있는 회원만 detach > 다음 조회 시 DB 값으로 다시 로딩
+    private void detachUpdatedMembers(int age, long minId, long maxId) {
+        if (!TransactionSynchronizationManager.hasResource(em.getEntityManagerFactory())) {
+            return;
+        }
+        for (Map.Entry<Object, EntityEntry> entry : em.unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal()
+                .reentrantSafeEntityEntries()) {
+            if (entry.getKey() instanceof Member member
+                    && member.getAge() >= age
+                    && member.getId() >= minId && member.getId() <= maxId) {
+                em.detach(member);
+            }
+        }
+    }
+
 }
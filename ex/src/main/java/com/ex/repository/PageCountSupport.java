@@ -0,0 +1,109 @@
+package com.ex.repository;
+
+import com.ex.support.TableWriteTracker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 카운트 쿼리 최적화
+ * - 현재 페이지가 마지막 페이지면 content 크기로 전체 건수를 계산하고 카운트 쿼리를 생략 (PageableExecutionUtils)
+ * - 그 외에는 @CountStrategy 로 지정한 방식으로 전체 건수를 구한다 (CountStrategyAspect 가 전달)
+ * - 어노테이션이 없으면 EXACT
+ * - CACHED 는 최대 MAX_CACHED_COUNTS 개, 테이블에 쓰기가 있으면 TTL 과 관계없이 다시 계산 (TableWriteTracker)
+ */
+@Component
+public class PageCountSupport {
+
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    private static final ThreadLocal<CountContext> currentContext = new ThreadLocal<>();
+
+    private final Cache<String, CachedCount> cachedCounts = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_COUNTS)
+            .build();
+
+    private final TableWriteTracker tableWriteTracker;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public PageCountSupport(TableWriteTracker tableWriteTracker) {
+        this.tableWriteTracker = tableWriteTracker;
+    }
+
+    public <T> Page<T> page(List<T> content, Pageable pageable, String table, LongSupplier exactCount) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(table, exactCount));
+    }
+
+    public long count(String table, LongSupplier exactCount) {
+        CountContext context = currentContext.get();
+        if (context == null) {
+            return exactCount.getAsLong();
+        }
+        return switch (context.strategy().value()) {
+            case EXACT -> exactCount.getAsLong();
+            case CACHED -> cachedCount(context, table, exactCount);
+            case ESTIMATED -> estimatedCount(table, exactCount);
+        };
+    }
+
+    //CountStrategyAspect 에서 메서드 실행 전후로 호출 - 카운트 방식과 캐시 키를 전달
+    Object enter(CountStrategy strategy, String key) {
+        CountContext previous = currentContext.get();
+        currentContext.set(new CountContext(strategy, key));
+        return previous;
+    }
+
+    void exit(Object previous) {
+        if (previous == null) {
+            currentContext.remove();
+        } else {
+            currentContext.set((CountContext) previous);
+        }
+    }
+
+    //조회 조건(메서드 + 파라미터)별로 캐시
+    //계산 전에 읽은 세대로 저장 > 계산 중에 쓰기가 있었으면 다음 조회에서 다시 계산
+    private long cachedCount(CountContext context, String table, LongSupplier exactCount) {
+        long now = System.nanoTime();
+        long generation = tableWriteTracker.generation(table);
+        CachedCount cached = cachedCounts.getIfPresent(context.key());
+        if (cached != null && cached.generation() == generation && cached.expiresAt() - now > 0) {
+            return cached.total();
+        }
+        long total = exactCount.getAsLong();
+        long ttl = TimeUnit.SECONDS.toNanos(context.strategy().ttlSeconds());
+        cachedCounts.put(context.key(), new CachedCount(total, generation, now + ttl));
+        return total;
+    }
+
+    //H2 테이블 통계의 예상 행 수, 통계가 없으면 정확한 카운트
+    private long estimatedCount(String table, LongSupplier exactCount) {
+        List<?> result = em.createNativeQuery(
+                        "select row_count_estimate from information_schema.tables " +
+                        "where table_schema = current_schema and table_name = upper(:table)")
+                .setParameter("table", table)
+                .getResultList();
+        if (result.isEmpty() || result.get(0) == null) {
+            return exactCount.getAsLong();
+        }
+        return ((Number) result.get(0)).longValue();
+    }
+
+    private record CountContext(CountStrategy strategy, String key) {
+    }
+
+    private record CachedCount(long total, long generation, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.ex.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영속성 컨텍스트 크기 제한
+ * - 쓰기 후(afterWrite) 관리 중인 엔티티 수와 스냅샷 크기(엔티티별 loadedState 칸 수 합)를 확인
+ * - 기준을 넘으면 flush 후 clear > 1차 캐시와 스냅샷이 트랜잭션 길이에 비례해서 커지지 않는다
+ * - 항상 flush 를 먼저 하므로 쓰기 순서(INSERT 정렬, 팀 > 회원)는 그대로 유지된다
+ * - clear 이후 호출한 쪽이 들고 있는 엔티티는 준영속 > 변경 감지 대상이 아니다 (기준은 일반 요청보다 충분히 크게)
+ * - 스냅샷 크기는 엔티티를 모두 훑어야 하므로 SAMPLE_INTERVAL 번에 한 번만 계산
+ * - 메트릭 : jpa.persistence.context.entities, jpa.persistence.context.snapshot.slots, jpa.persistence.context.clears
+ */
+@Component
+public class PersistenceContextGovernor {
+
+    //대량 저장 시 flush/clear 주기, hibernate.jdbc.batch_size 와 맞춘다 (saveAllBatched, insertAll)
+    public static final int BATCH_SIZE = 100;
+
+    private static final int SAMPLE_INTERVAL = 64;
+
+    private final int maxEntities;
+    private final long maxSnapshotSlots;
+    private final DistributionSummary entities;
+    private final DistributionSummary snapshotSlots;
+    private final Map<String, Counter> clears = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadLocal<int[]> writes = ThreadLocal.withInitial(() -> new int[1]);
+
+    public PersistenceContextGovernor(@Value("${ex.jpa.persistence-context.max-entities:5000}") int maxEntities,
+                                      @Value("${ex.jpa.persistence-context.max-snapshot-slots:100000}") long maxSnapshotSlots,
+                                      MeterRegistry meterRegistry) {
+        this.maxEntities = maxEntities;
+        this.maxSnapshotSlots = maxSnapshotSlots;
+        this.meterRegistry = meterRegistry;
+        this.entities = DistributionSummary.builder("jpa.persistence.context.entities")
+                .description("관리 중인 엔티티 수")
+                .register(meterRegistry);
+        this.snapshotSlots = DistributionSummary.builder("jpa.persistence.context.snapshot.slots")
+                .description("변경 감지 스냅샷 칸 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * persist/merge 등 쓰기 후 호출
+     * - 기준을 넘어서 flush/clear 했으면 true
+     */
+    public boolean afterWrite(EntityManager em) {
+        PersistenceContext persistenceContext = em.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        int managed = persistenceContext.getNumberOfManagedEntities();
+        if (managed >= maxEntities) {
+            entities.record(managed);
+            flushAndClear(em, "entities");
+            return true;
+        }
+
+        if (++writes.get()[0] % SAMPLE_INTERVAL != 0) {
+            return false;
+        }
+        long slots = snapshotSlots(persistenceContext);
+        entities.record(managed);
+        snapshotSlots.record(slots);
+        if (slots >= maxSnapshotSlots) {
+            flushAndClear(em, "snapshot");
+            return true;
+        }
+        return false;
+    }
+
+    //대량 저장처럼 호출한 쪽이 주기를 정하는 경우
+    public void flushAndClear(EntityManager em, String reason) {
+        em.flush();
+        em.clear();
+        clears.computeIfAbsent(reason, this::clearCounter).increment();
+    }
+
+    private Counter clearCounter(String reason) {
+        return Counter.builder("jpa.persistence.context.clears")
+                .description("영속성 컨텍스트 자동 flush/clear 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static long snapshotSlots(PersistenceContext persistenceContext) {
+        long slots = 0;
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            Object[] loadedState = entry.getValue().getLoadedState();
+            if (loadedState != null) {
+                slots += loadedState.length;
+            }
+        }
+        return slots;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.ex.service;
+
+import com.ex.config.AsyncConfig;
+import com.ex.dto.MemberDto;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 조회 - 서로 독립적인 조회를 동시에 실행
+ * - jdbcExecutor 스레드에서 메서드마다 읽기 전용 트랜잭션을 따로 연다 (@Async 가 @Transactional 보다 바깥)
+ * - 호출한 쪽의 트랜잭션, 영속성 컨텍스트와는 무관 > 엔티티 대신 DTO 를 반환 (다른 스레드에서 지연 로딩 불가)
+ */
+@Service
+@Async(AsyncConfig.JDBC_EXECUTOR)
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemberQueryService {
+
+    private final MemberRepository memberRepository;
+    private final TeamJpaRepository teamJpaRepository;
+
+    public CompletableFuture<Optional<MemberDto>> findMember(Long id) {
+        return CompletableFuture.completedFuture(memberRepository.findById(id).map(MemberDto::new));
+    }
+
+    public CompletableFuture<Long> countMembers() {
+        return CompletableFuture.completedFuture(memberRepository.count());
+    }
+
+    public CompletableFuture<Long> countTeams() {
+        return CompletableFuture.completedFuture(teamJpaRepository.count());
+    }
+
+}
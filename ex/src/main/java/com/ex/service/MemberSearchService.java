@@ -0,0 +1,50 @@
+package com.ex.service;
+
+import com.ex.dto.MemberDto;
+import com.ex.repository.MemberReadRepository;
+import com.ex.support.UsernameSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 이름 검색 (UsernameSearchIndex)
+ * - 인덱스에서 id 목록을 찾고, 현재 페이지의 id 만 DB 에서 DTO 로 조회
+ * - 전체 건수는 인덱스 결과 수 (최대 ex.search.username.max-results)
+ * - 인덱스에는 있지만 DB 에서 삭제된 회원(벌크 삭제)은 페이지에서 빠진다
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberSearchService {
+
+    private final UsernameSearchIndex usernameSearchIndex;
+    private final MemberReadRepository memberReadRepository;
+
+    public List<Long> searchIds(String query, boolean fuzzy) {
+        return usernameSearchIndex.search(query, fuzzy);
+    }
+
+    public Page<MemberDto> search(String query, boolean fuzzy, Pageable pageable) {
+        List<Long> ids = usernameSearchIndex.search(query, fuzzy);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+
+        //IN 조회는 순서를 보장하지 않으므로 인덱스 결과 순서로 다시 정렬
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            order.put(pageIds.get(i), i);
+        }
+        List<MemberDto> content = memberReadRepository.findMemberDtoByIds(pageIds).stream()
+                .sorted(Comparator.comparing(dto -> order.get(dto.id())))
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+}
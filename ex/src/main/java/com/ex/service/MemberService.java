@@ -0,0 +1,36 @@
+package com.ex.service;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import com.ex.support.OptimisticRetry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 회원을 동시에 수정하는 방법 비교
+ * - 비관적 락 : SELECT ... FOR UPDATE 로 다른 쓰기를 트랜잭션 끝까지 대기시킨다
+ * - 낙관적 락 : 락 없이 읽고 UPDATE 시 @Version 으로 충돌을 감지, 충돌하면 다시 시도
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberService {
+
+    private final MemberRepository memberRepository;
+
+    @Transactional
+    public int increaseAgePessimistic(String username) {
+        Member member = memberRepository.findLockByUsername(username);
+        member.increaseAge();
+        return member.getAge();
+    }
+
+    @OptimisticRetry(maxAttempts = 10)
+    @Transactional
+    public int increaseAgeOptimistic(String username) {
+        Member member = memberRepository.findMemberByUsername(username);
+        member.increaseAge();
+        return member.getAge();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.ex.support;
+
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스프링 데이터 Auditing 의 등록자/수정자, 시간 제공
+ * - 등록자/수정자는 트랜잭션마다 한 번만 만든다 (트랜잭션 밖이면 호출마다)
+ * - 시간은 CoarseClock > 같은 구간의 호출은 같은 값
+ * - batch 실행 동안에는 등록자와 시간을 하나로 고정 > 대량 저장 시 엔티티마다 계산하지 않는다
+ */
+@Component
+public class AuditingSupport implements AuditorAware<String>, DateTimeProvider {
+
+    private final ThreadLocal<Stamp> batch = new ThreadLocal<>();
+    private final CoarseClock clock = CoarseClock.shared();
+
+    private volatile Optional<TemporalAccessor> lastNow = Optional.empty();
+
+    @Override
+    public Optional<String> getCurrentAuditor() {
+        Stamp stamp = batch.get();
+        if (stamp != null) {
+            return stamp.auditor();
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.of(newAuditor());
+        }
+        @SuppressWarnings("unchecked")
+        Optional<String> auditor = (Optional<String>) TransactionSynchronizationManager.getResource(this);
+        if (auditor == null) {
+            auditor = Optional.of(newAuditor());
+            TransactionSynchronizationManager.bindResource(this, auditor);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AuditingSupport.this);
+                }
+            });
+        }
+        return auditor;
+    }
+
+    @Override
+    public Optional<TemporalAccessor> getNow() {
+        Stamp stamp = batch.get();
+        if (stamp != null) {
+            return stamp.now();
+        }
+        //시계 값이 바뀔 때만 Optional 을 새로 만든다
+        LocalDateTime now = clock.now();
+        Optional<TemporalAccessor> last = lastNow;
+        if (last.orElse(null) != now) {
+            last = Optional.of(now);
+            lastNow = last;
+        }
+        return last;
+    }
+
+    /**
+     * 등록자와 시간을 고정한 채로 실행 (대량 저장)
+     * - 이미 batch 안이면 바깥 값을 그대로 사용
+     */
+    public void batch(Runnable work) {
+        if (batch.get() != null) {
+            work.run();
+            return;
+        }
+        batch.set(new Stamp(getCurrentAuditor(), Optional.of(clock.now())));
+        try {
+            work.run();
+        } finally {
+            batch.remove();
+        }
+    }
+
+    //실제 서비스라면 로그인 사용자(SecurityContext 등)
+    //SecureRandom 기반 UUID.randomUUID 대신 ThreadLocalRandom 사용 (식별 용도가 아니므로 충분)
+    private static String newAuditor() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private record Stamp(Optional<String> auditor, Optional<TemporalAccessor> now) {
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.ex.support;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 해상도가 낮은 시계
+ * - 같은 RESOLUTION_MILLIS 구간 안에서는 같은 LocalDateTime 인스턴스를 반환 > 시간대 계산과 객체 생성을 줄인다
+ * - 감사(Auditing) 필드처럼 밀리초 단위 정밀도가 필요 없는 곳에서 사용
+ * - 엔티티 콜백(JpaBaseEntity)에서도 쓸 수 있도록 공용 인스턴스를 둔다
+ * - 반환값은 단조 증가 (이전에 반환한 값보다 과거 값을 반환하지 않는다)
+ */
+public final class CoarseClock {
+
+    private static final long RESOLUTION_MILLIS = 10;
+    private static final CoarseClock shared = new CoarseClock();
+
+    private final AtomicReference<Tick> tick = new AtomicReference<>(new Tick(Long.MIN_VALUE, null));
+
+    private CoarseClock() {
+    }
+
+    public static CoarseClock shared() {
+        return shared;
+    }
+
+    public LocalDateTime now() {
+        long bucket = System.currentTimeMillis() / RESOLUTION_MILLIS;
+        Tick current = tick.get();
+        //앞으로만 갱신 > 늦게 도착한 스레드가 더 오래된 값으로 덮어쓰면 시간이 거꾸로 간다 (createdDate > lastModifiedDate 등)
+        while (current.bucket() < bucket) {
+            Tick next = new Tick(bucket, LocalDateTime.now());
+            if (tick.compareAndSet(current, next)) {
+                return next.time();
+            }
+            current = tick.get();
+        }
+        //다른 스레드가 이미 같거나 더 최근 구간으로 갱신했다
+        return current.time();
+    }
+
+    private record Tick(long bucket, LocalDateTime time) {
+    }
+
+}
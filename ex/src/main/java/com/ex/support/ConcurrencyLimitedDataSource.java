@@ -0,0 +1,106 @@
+package com.ex.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 커넥션 사용 수 제한
+ * - 가상 스레드는 요청마다 만들어지므로 수천 개가 동시에 커넥션 풀로 몰릴 수 있다
+ * - 공정(fair) 세마포어로 먼저 온 순서대로 permits 개만 풀에 접근시키고 나머지는 세마포어에서 대기
+ * - j.u.c 세마포어는 대기 중인 가상 스레드를 캐리어 스레드에 고정(pinning)시키지 않는다
+ * - 커넥션을 close 하면 permit 반환
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConcurrency, long timeoutMillis) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "커넥션 대기 시간 초과 (" + timeoutMillis + "ms, 대기 " + permits.getQueueLength() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    private Connection guard(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ReleasingHandler(connection));
+    }
+
+    private class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+
+    }
+
+}
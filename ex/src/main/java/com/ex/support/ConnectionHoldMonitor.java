@@ -0,0 +1,93 @@
+package com.ex.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 점유 시간
+ * - getConnection ~ close 사이 시간을 커넥션을 얻은 리포지토리 메서드별로 기록 (jdbc.connection.hold)
+ * - longHoldMillis 이상 점유하면 경고 로그와 jdbc.connection.long.hold 카운터 > 트랜잭션 안의 느린 작업, 반환 누락 추적
+ * - 반환 자체를 잊은 커넥션은 HikariCP leakDetectionThreshold 가 스택과 함께 로그를 남긴다
+ * - 현재 점유 중인 커넥션 목록은 /actuator/connectionpool 에서 확인
+ * - 획득/반환은 SqlMetricsListener 가 datasource-proxy 커넥션 id 로 전달 (메서드 리스너를 따로 두지 않는다)
+ */
+@Slf4j
+@Component
+public class ConnectionHoldMonitor {
+
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> longHoldCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long longHoldNanos;
+
+    public ConnectionHoldMonitor(MeterRegistry meterRegistry,
+                                 @Value("${ex.datasource.pool.long-hold-ms:1000}") long longHoldMillis) {
+        this.meterRegistry = meterRegistry;
+        this.longHoldNanos = TimeUnit.MILLISECONDS.toNanos(longHoldMillis);
+    }
+
+    public void acquired(String connectionId, String caller) {
+        holds.put(connectionId, new Hold(caller, Thread.currentThread().getName(), System.nanoTime()));
+    }
+
+    public void released(String connectionId) {
+        Hold hold = holds.remove(connectionId);
+        if (hold != null) {
+            release(hold);
+        }
+    }
+
+    private void release(Hold hold) {
+        long held = System.nanoTime() - hold.acquiredNanos();
+        holdTimers.computeIfAbsent(hold.caller(), this::holdTimer).record(held, TimeUnit.NANOSECONDS);
+        if (held >= longHoldNanos) {
+            longHoldCounters.computeIfAbsent(hold.caller(), this::longHoldCounter).increment();
+            log.warn("커넥션 장시간 점유 {}ms caller={} thread={}",
+                    TimeUnit.NANOSECONDS.toMillis(held), hold.caller(), hold.thread());
+        }
+    }
+
+    private Timer holdTimer(String caller) {
+        return Timer.builder("jdbc.connection.hold")
+                .description("커넥션 점유 시간")
+                .tag("repository.method", caller)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter longHoldCounter(String caller) {
+        return Counter.builder("jdbc.connection.long.hold")
+                .description("기준 이상 커넥션 점유 횟수")
+                .tag("repository.method", caller)
+                .register(meterRegistry);
+    }
+
+    //현재 점유 중인 커넥션, 오래된 순
+    public List<CurrentHold> longestHolds(int top) {
+        long now = System.nanoTime();
+        return holds.values().stream()
+                .sorted(Comparator.comparingLong(Hold::acquiredNanos))
+                .limit(top)
+                .map(hold -> new CurrentHold(hold.caller(), hold.thread(),
+                        TimeUnit.NANOSECONDS.toMillis(now - hold.acquiredNanos())))
+                .toList();
+    }
+
+    private record Hold(String caller, String thread, long acquiredNanos) {
+    }
+
+    public record CurrentHold(String caller, String thread, long heldMillis) {
+    }
+
+}
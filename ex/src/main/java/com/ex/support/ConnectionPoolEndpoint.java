@@ -0,0 +1,59 @@
+package com.ex.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * /actuator/connectionpool
+ * - pools : 풀별 설정과 현재 상태 (active, idle, 대기 중인 스레드 수)
+ * - longestHolds : 가장 오래 점유 중인 커넥션과 얻은 곳 (ConnectionHoldMonitor)
+ * - 대기 시간 분포는 /actuator/metrics/jdbc.connection.acquire (리포지토리 메서드별), hikaricp.connections.acquire
+ */
+@Component
+@Endpoint(id = "connectionpool")
+@RequiredArgsConstructor
+public class ConnectionPoolEndpoint {
+
+    private static final int TOP = 10;
+
+    private final ObjectProvider<DataSource> dataSources;
+    private final ConnectionHoldMonitor connectionHoldMonitor;
+
+    @ReadOperation
+    public ConnectionPoolReport connectionPool() {
+        List<PoolState> pools = HikariPools.find(dataSources.stream().toList()).stream()
+                .map(ConnectionPoolEndpoint::state)
+                .toList();
+        return new ConnectionPoolReport(pools, connectionHoldMonitor.longestHolds(TOP));
+    }
+
+    private static PoolState state(HikariDataSource pool) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean(); //아직 시작 전이면 null
+        return new PoolState(
+                pool.getPoolName(),
+                pool.getMaximumPoolSize(),
+                pool.getMinimumIdle(),
+                pool.getConnectionTimeout(),
+                pool.getLeakDetectionThreshold(),
+                bean == null ? 0 : bean.getActiveConnections(),
+                bean == null ? 0 : bean.getIdleConnections(),
+                bean == null ? 0 : bean.getTotalConnections(),
+                bean == null ? 0 : bean.getThreadsAwaitingConnection());
+    }
+
+    public record ConnectionPoolReport(List<PoolState> pools, List<ConnectionHoldMonitor.CurrentHold> longestHolds) {
+    }
+
+    public record PoolState(String name, int maximumPoolSize, int minimumIdle, long connectionTimeoutMillis,
+                            long leakDetectionThresholdMillis, int active, int idle, int total, int threadsAwaiting) {
+    }
+
+}
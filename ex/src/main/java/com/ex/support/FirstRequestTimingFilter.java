@@ -0,0 +1,37 @@
+package com.ex.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 첫 요청 응답까지 걸린 시간 (JVM 시작 기준)
+ * - 기동 방식(기본, fast 프로파일, AOT, CDS)별 비교용으로 한 번만 로그를 남긴다
+ * - 이후 요청은 AtomicBoolean 확인만 한다
+ */
+@Slf4j
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean first = new AtomicBoolean(true);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (first.get() && first.compareAndSet(true, false)) {
+                log.info("time-to-first-request {}ms ({} {})",
+                        ManagementFactory.getRuntimeMXBean().getUptime(), request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.ex.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DataSource 빈들 뒤에 있는 HikariCP 풀 찾기
+ * - SQL 메트릭 프록시, 동시성 제한, 읽기/쓰기 분리로 감싸져 있어도 unwrap 으로 찾는다
+ */
+public final class HikariPools {
+
+    private HikariPools() {
+    }
+
+    public static List<HikariDataSource> find(Collection<DataSource> dataSources) {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(dataSource.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException e) {
+                //풀이 아닌 DataSource
+            }
+        }
+        return new ArrayList<>(pools);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.ex.support;
+
+import com.ex.entity.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Member 변경을 검색 인덱스(UsernameSearchIndex)에 반영하는 엔티티 리스너
+ * - 스프링 빈으로 등록 > Hibernate 가 SpringBeanContainer 로 이 빈을 리스너로 사용한다
+ * - 트랜잭션 안이면 커밋된 뒤에 반영 (롤백된 변경은 검색되지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSearchIndexListener {
+
+    private final UsernameSearchIndex usernameSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void indexed(Member member) {
+        Long id = member.getId();
+        String username = member.getUsername();
+        afterCommit(() -> usernameSearchIndex.index(id, username));
+    }
+
+    @PostRemove
+    public void removed(Member member) {
+        Long id = member.getId();
+        afterCommit(() -> usernameSearchIndex.remove(id));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.ex.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * N+1 감지
+ * - Hibernate 가 SQL 을 준비할 때마다 QueryCounter 에 집계
+ * - 같은 모양의 SELECT 가 한 범위(요청/트랜잭션)에서 threshold 번 실행되면 N+1 로 판단
+ *   ex) 회원 목록을 돌면서 member.getTeam().getName() > select ... from team where team_id=? 가 반복
+ * - 해결: 페치 조인, @EntityGraph, 배치 페치
+ */
+@Slf4j
+public class NPlusOneDetector implements StatementInspector {
+
+    private final NPlusOneMode mode;
+    private final int threshold;
+    private final Counter detectedCounter;
+
+    public NPlusOneDetector(NPlusOneMode mode, int threshold, MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.threshold = threshold;
+        this.detectedCounter = Counter.builder("jpa.n_plus_one")
+                .description("같은 모양의 SELECT 가 반복 실행된 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int repeated = QueryCounter.record(sql);
+        if (mode != NPlusOneMode.OFF && repeated == threshold && isSelect(sql)) {
+            detected(sql);
+        }
+        return sql;
+    }
+
+    private void detected(String sql) {
+        String message = "N+1 의심 - 같은 SELECT 가 " + threshold + "번 반복 실행되었습니다: " + QueryCounter.normalize(sql);
+        switch (mode) {
+            case LOG -> log.warn(message);
+            case METRICS -> {
+                log.warn(message);
+                detectedCounter.increment();
+            }
+            case THROW -> throw new NPlusOneException(message);
+            default -> {
+            }
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+}
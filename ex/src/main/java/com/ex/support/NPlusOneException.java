@@ -0,0 +1,9 @@
+package com.ex.support;
+
+public class NPlusOneException extends RuntimeException {
+
+    public NPlusOneException(String message) {
+        super(message);
+    }
+
+}
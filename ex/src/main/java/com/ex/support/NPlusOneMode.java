@@ -0,0 +1,17 @@
+package com.ex.support;
+
+public enum NPlusOneMode {
+
+    //감지하지 않음
+    OFF,
+
+    //경고 로그
+    LOG,
+
+    //경고 로그 + jpa.n_plus_one 카운터 증가
+    METRICS,
+
+    //NPlusOneException 으로 즉시 실패 (개발, 테스트 환경용)
+    THROW
+
+}
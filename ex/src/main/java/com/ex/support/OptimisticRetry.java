@@ -0,0 +1,27 @@
+package com.ex.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException) 시 메서드를 다시 실행
+ * - 재시도마다 새 트랜잭션이어야 하므로 @Transactional 메서드(트랜잭션 시작 지점)에 붙인다
+ * - 이미 트랜잭션 안에서 호출되면 재시도하지 않고 예외를 그대로 던진다 (바깥 트랜잭션이 롤백 대상)
+ * - 대기 시간은 지수 증가 + 지터, 전체 재시도 횟수는 RetryBudget 으로 제한
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OptimisticRetry {
+
+    //최초 실행 포함
+    int maxAttempts() default 5;
+
+    long backoffMillis() default 10;
+
+    long maxBackoffMillis() default 200;
+
+}
@@ -0,0 +1,67 @@
+package com.ex.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @OptimisticRetry 처리
+ * - 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 바깥에서 실행 > 재시도마다 트랜잭션을 새로 시작
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticRetryAspect {
+
+    private final RetryBudget budget;
+
+    public OptimisticRetryAspect(@Value("${ex.retry.budget.ratio:0.2}") double ratio,
+                                 @Value("${ex.retry.budget.max-tokens:100}") int maxTokens) {
+        this.budget = new RetryBudget(ratio, maxTokens);
+    }
+
+    @Around("@annotation(optimisticRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry optimisticRetry) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        budget.recordCall();
+        long backoff = optimisticRetry.backoffMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= optimisticRetry.maxAttempts()) {
+                    log.warn("낙관적 락 재시도 초과 {} attempts={}", joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                if (!budget.tryRetry()) {
+                    log.warn("재시도 예산 소진 {}", joinPoint.getSignature().toShortString());
+                    throw e;
+                }
+                //full jitter - 동시에 충돌한 호출들이 같은 시점에 다시 충돌하지 않도록
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(backoff + 1));
+                } catch (InterruptedException interrupted) {
+                    //종료 중이면 재시도하지 않고 인터럽트 상태를 복구한 뒤 원래 충돌 예외를 던진다
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(interrupted);
+                    throw e;
+                }
+                backoff = Math.min(backoff * 2, optimisticRetry.maxBackoffMillis());
+            }
+        }
+    }
+
+}
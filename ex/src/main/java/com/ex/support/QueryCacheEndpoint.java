@@ -0,0 +1,39 @@
+package com.ex.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/querycache
+ * - queryPlanCache : Hibernate JPQL/HQL 해석 결과 캐시 적중률 (hibernate.query.plan_cache_max_size)
+ * - statementCache : PreparedStatement 재사용률(W-TinyLFU 기준 추정치)과 가장 많이 준비된 SQL (StatementCacheStatistics)
+ */
+@Component
+@Endpoint(id = "querycache")
+@RequiredArgsConstructor
+public class QueryCacheEndpoint {
+
+    private static final int TOP = 10;
+
+    private final EntityManagerFactory emf;
+    private final StatementCacheStatistics statementCacheStatistics;
+
+    @ReadOperation
+    public QueryCacheReport queryCache() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        return new QueryCacheReport(
+                StatementCacheStatistics.CacheRatio.of(
+                        statistics.getQueryPlanCacheHitCount(), statistics.getQueryPlanCacheMissCount()),
+                statementCacheStatistics.snapshot(TOP));
+    }
+
+    public record QueryCacheReport(StatementCacheStatistics.CacheRatio queryPlanCache,
+                                   StatementCacheStatistics.Snapshot statementCache) {
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.ex.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위로 SQL 수 집계
+ * - OSIV 로 컨트롤러에서 발생하는 지연 로딩까지 한 범위로 센다
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            log.debug("{} {} - SQL {}건", request.getMethod(), request.getRequestURI(), QueryCounter.getCount());
+            QueryCounter.close();
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.ex.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수 집계
+ * - 요청 단위(QueryCountFilter) 또는 트랜잭션 단위로 범위가 열린다
+ * - 요청 범위가 없으면 첫 SQL 실행 시점에 트랜잭션 범위를 열고 트랜잭션이 끝나면 닫는다
+ * - SQL 은 공백과 IN 절 파라미터 개수를 정규화해서 같은 모양끼리 센다
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    //SQL 마다 호출되므로 미리 컴파일
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_PARAMETERS = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private QueryCounter() {
+    }
+
+    public static void open() {
+        currentScope.set(new Scope());
+    }
+
+    public static void close() {
+        currentScope.remove();
+    }
+
+    //현재 범위의 카운트를 0 으로 초기화 (테스트에서 검증 구간 시작)
+    public static void reset() {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.total = 0;
+            scope.countsBySql.clear();
+        }
+    }
+
+    public static long getCount() {
+        Scope scope = currentScope.get();
+        return scope == null ? 0 : scope.total;
+    }
+
+    public static Map<String, Integer> getCountsBySql() {
+        Scope scope = currentScope.get();
+        return scope == null ? Map.of() : Map.copyOf(scope.countsBySql);
+    }
+
+    //SQL 을 집계하고 같은 모양의 SQL 이 현재 범위에서 몇 번째인지 반환, 범위가 없으면 0
+    static int record(String sql) {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return 0;
+            }
+            scope = openTransactionScope();
+        }
+        scope.total++;
+        return scope.countsBySql.merge(normalize(sql), 1, Integer::sum);
+    }
+
+    private static Scope openTransactionScope() {
+        Scope scope = new Scope();
+        currentScope.set(scope);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (currentScope.get() == scope) {
+                    currentScope.remove();
+                }
+            }
+        });
+        return scope;
+    }
+
+    static String normalize(String sql) {
+        String collapsed = WHITESPACE.matcher(sql).replaceAll(" ");
+        return IN_PARAMETERS.matcher(collapsed).replaceAll("(?)").trim();
+    }
+
+    private static class Scope {
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private long total;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.ex.support;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 분리
+ * - @Transactional(readOnly = true) 트랜잭션은 replica, 그 외는 primary
+ * - 같은 요청에서 실제로 쓰기 SQL 이 실행됐다면 이후 읽기도 primary (ReadYourWritesContext)
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서
+ *   실제 SQL 을 실행할 때 커넥션을 고르게 해야 한다
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return ReadYourWritesContext.isWritten() ? PRIMARY : REPLICA;
+    }
+
+}
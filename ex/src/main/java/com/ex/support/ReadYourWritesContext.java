@@ -0,0 +1,36 @@
+package com.ex.support;
+
+/**
+ * 요청 안에서 쓰기가 있었는지 기록
+ * - 쓰기 이후 같은 요청의 읽기는 복제 지연을 피하기 위해 primary 로 보낸다 (read-your-writes)
+ * - 쓰기 트랜잭션이라도 조회만 했다면 기록하지 않는다 > INSERT/UPDATE/DELETE 가 실행될 때 기록 (TableWriteTracker)
+ * - 요청 범위(ReadYourWritesFilter)가 열려 있을 때만 기록한다
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<boolean[]> written = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void open() {
+        written.set(new boolean[1]);
+    }
+
+    public static void close() {
+        written.remove();
+    }
+
+    public static void markWritten() {
+        boolean[] flag = written.get();
+        if (flag != null) {
+            flag[0] = true;
+        }
+    }
+
+    public static boolean isWritten() {
+        boolean[] flag = written.get();
+        return flag != null && flag[0];
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.ex.support;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리포지토리 메서드 실행 동안 RepositoryMethodContext 에 메서드 이름을 기록
+ * - 스프링 데이터 JPA 리포지토리(프록시)와 순수 JPA 리포지토리 모두 대상
+ * - 메서드 이름 계산 결과는 캐시 > 호출마다 문자열을 만들지 않는다
+ */
+@Aspect
+@Component
+public class RepositoryMethodAspect {
+
+    private final Map<MethodKey, String> names = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.ex.repository.*Repository+.*(..))")
+    public Object recordRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = names.computeIfAbsent(new MethodKey(targetClass, method), RepositoryMethodAspect::name);
+
+        String previous = RepositoryMethodContext.enter(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RepositoryMethodContext.restore(previous);
+        }
+    }
+
+    //스프링 데이터 리포지토리는 JDK 프록시이므로 구현한 리포지토리 인터페이스 이름을 사용
+    private static String name(MethodKey key) {
+        String repository = ClassUtils.getUserClass(key.targetClass()).getSimpleName();
+        if (Proxy.isProxyClass(key.targetClass())) {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(key.targetClass())) {
+                if (candidate.getName().startsWith("com.ex.repository.") && candidate.getSimpleName().endsWith("Repository")) {
+                    repository = candidate.getSimpleName();
+                    break;
+                }
+            }
+        }
+        return repository + "." + key.method().getName();
+    }
+
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+}
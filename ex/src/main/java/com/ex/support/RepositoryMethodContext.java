@@ -0,0 +1,36 @@
+package com.ex.support;
+
+/**
+ * 현재 스레드에서 실행 중인 리포지토리 메서드 이름 (ex. MemberRepository.findByAge)
+ * - SQL 메트릭 태그로 사용, 리포지토리 밖에서 실행된 SQL 은 "none"
+ */
+public final class RepositoryMethodContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> currentMethod = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        String method = currentMethod.get();
+        return method == null ? NONE : method;
+    }
+
+    //이전 값을 반환 > 끝나면 restore 로 되돌린다
+    static String enter(String method) {
+        String previous = currentMethod.get();
+        currentMethod.set(method);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            currentMethod.remove();
+        } else {
+            currentMethod.set(previous);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.ex.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산
+ * - 호출마다 ratio 만큼 적립, 재시도마다 1 사용 > 재시도는 전체 호출의 ratio 비율을 넘지 못한다
+ * - 충돌이 몰릴 때 재시도가 다시 충돌을 부르는 재시도 폭주를 막는다
+ * - 적립은 maxTokens 까지, 처음에는 가득 찬 상태로 시작
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000; //소수 비율을 정수로 계산
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.deposit = (long) (ratio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void recordCall() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    public boolean tryRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+}
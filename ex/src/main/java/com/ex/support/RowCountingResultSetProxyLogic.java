@@ -0,0 +1,68 @@
+package com.ex.support;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyLogicSupport;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * SELECT 행 수 측정용 ResultSet 프록시 (SqlMetricsListener.create)
+ * - next() 가 true 를 반환한 횟수만 센다, 나머지 메서드는 리스너를 거치지 않고 바로 위임
+ * - next() 가 false 를 반환하거나 close 될 때 한 번만 기록
+ * - 리포지토리 메서드는 ResultSet 을 만든 시점(executeQuery)에 정한다 > 스트리밍 조회처럼 나중에 읽어도 같은 태그
+ */
+class RowCountingResultSetProxyLogic extends ProxyLogicSupport implements ResultSetProxyLogic {
+
+    private final ResultSet resultSet;
+    private final ProxyConfig proxyConfig;
+    private final String repositoryMethod;
+    private final ObjLongConsumer<String> recorder;
+
+    private long rows;
+    private boolean recorded;
+
+    RowCountingResultSetProxyLogic(ResultSet resultSet, ProxyConfig proxyConfig, String repositoryMethod,
+                                   ObjLongConsumer<String> recorder) {
+        this.resultSet = resultSet;
+        this.proxyConfig = proxyConfig;
+        this.repositoryMethod = repositoryMethod;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String methodName = method.getName();
+        if (isCommonMethod(methodName)) {
+            return handleCommonMethod(methodName, resultSet, proxyConfig, args);
+        }
+        Object result = proceedExecution(method, resultSet, args);
+        if ("next".equals(methodName)) {
+            if ((Boolean) result) {
+                rows++;
+            } else {
+                record();
+            }
+        } else if ("close".equals(methodName)) {
+            record();
+        }
+        return result;
+    }
+
+    @Override
+    protected Object performProxyLogic(Object proxy, Method method, Object[] args,
+                                       MethodExecutionContext executionContext) {
+        throw new UnsupportedOperationException(); //invoke 에서 직접 위임
+    }
+
+    private void record() {
+        if (!recorded) {
+            recorded = true;
+            recorder.accept(repositoryMethod, rows);
+        }
+    }
+
+}
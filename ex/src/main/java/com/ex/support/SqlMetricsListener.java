@@ -0,0 +1,168 @@
+package com.ex.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 계층 SQL 메트릭 (datasource-proxy 리스너)
+ * - jdbc.statement : SQL 실행 시간 (repository.method, type, outcome)
+ * - jdbc.rows : INSERT/UPDATE/DELETE 로 변경된 행 수, SELECT 로 읽은 행 수 (repository.method, type)
+ *   > SELECT 는 RowCountingResultSetProxyLogic 이 next() 만 세고 나머지 ResultSet 호출은 리스너를 거치지 않는다
+ * - jdbc.connection.acquire : 커넥션 획득 시간 (repository.method)
+ * - 태그 조합이 많으므로 히스토그램 버킷은 기본으로 만들지 않는다
+ *   > 필요하면 management.metrics.distribution.percentiles-histogram.jdbc.statement: true 로 켠다
+ * - PreparedStatement 준비 SQL 은 StatementCacheStatistics 에 기록 (/actuator/querycache)
+ * - 커넥션 획득/반환은 커넥션 id 로 ConnectionHoldMonitor 에 전달 (jdbc.connection.hold)
+ * - 미터는 태그 조합별로 한 번만 만들어서 재사용, 시간 측정은 nanoTime 만 사용 > 운영에서 켜두어도 부담이 작다
+ */
+public class SqlMetricsListener implements QueryExecutionListener, MethodExecutionListener, ResultSetProxyLogicFactory {
+
+    private static final ThreadLocal<long[]> queryStart = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<long[]> connectionStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Map<StatementKey, Timer> statementTimers = new ConcurrentHashMap<>();
+    private final Map<StatementKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final StatementCacheStatistics statementCacheStatistics;
+    private final ConnectionHoldMonitor connectionHoldMonitor;
+
+    public SqlMetricsListener(MeterRegistry meterRegistry, StatementCacheStatistics statementCacheStatistics,
+                              ConnectionHoldMonitor connectionHoldMonitor) {
+        this.meterRegistry = meterRegistry;
+        this.statementCacheStatistics = statementCacheStatistics;
+        this.connectionHoldMonitor = connectionHoldMonitor;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        queryStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = System.nanoTime() - queryStart.get()[0];
+        String method = RepositoryMethodContext.current();
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        statementTimers.computeIfAbsent(new StatementKey(method, type, execInfo.isSuccess()), this::statementTimer)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        long rows = updatedRows(execInfo.getResult());
+        if (rows >= 0) {
+            rowSummaries.computeIfAbsent(new StatementKey(method, type, true), this::rowSummary).record(rows);
+        }
+    }
+
+    //executeUpdate 는 Integer/Long, executeBatch 는 int[]/long[], 그 외(ResultSet, Boolean)는 -1
+    private static long updatedRows(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+        if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+        return -1;
+    }
+
+    //executeQuery 가 반환하는 ResultSet 마다 호출 (DataSourceProxyConfig.proxyResultSet)
+    @Override
+    public ResultSetProxyLogic create(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+        return new RowCountingResultSetProxyLogic(resultSet, proxyConfig, RepositoryMethodContext.current(), this::selectedRows);
+    }
+
+    private void selectedRows(String method, long rows) {
+        rowSummaries.computeIfAbsent(new StatementKey(method, QueryType.SELECT, true), this::rowSummary).record(rows);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        if (isGetConnection(executionContext)) {
+            connectionStart.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof Connection) {
+            String methodName = executionContext.getMethod().getName();
+            if ("prepareStatement".equals(methodName)) {
+                statementCacheStatistics.record((String) executionContext.getMethodArgs()[0]);
+            } else if ("close".equals(methodName)) {
+                connectionHoldMonitor.released(executionContext.getConnectionInfo().getConnectionId());
+            }
+        } else if (isGetConnection(executionContext)) {
+            long elapsed = System.nanoTime() - connectionStart.get()[0];
+            String method = RepositoryMethodContext.current();
+            acquireTimers.computeIfAbsent(method, this::acquireTimer).record(elapsed, TimeUnit.NANOSECONDS);
+            //getConnection 의 ConnectionInfo 는 커넥션을 얻은 뒤(afterMethod) 채워진다
+            if (executionContext.getThrown() == null && executionContext.getConnectionInfo() != null) {
+                connectionHoldMonitor.acquired(executionContext.getConnectionInfo().getConnectionId(), method);
+            }
+        }
+    }
+
+    private static boolean isGetConnection(MethodExecutionContext executionContext) {
+        return executionContext.getTarget() instanceof DataSource
+                && "getConnection".equals(executionContext.getMethod().getName());
+    }
+
+    private Timer statementTimer(StatementKey key) {
+        return Timer.builder("jdbc.statement")
+                .description("SQL 실행 시간")
+                .tag("repository.method", key.method())
+                .tag("type", key.type().name().toLowerCase(Locale.ROOT))
+                .tag("outcome", key.success() ? "success" : "error")
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary rowSummary(StatementKey key) {
+        return DistributionSummary.builder("jdbc.rows")
+                .description("SQL 한 번에 변경하거나 읽은 행 수")
+                .tag("repository.method", key.method())
+                .tag("type", key.type().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    private Timer acquireTimer(String method) {
+        return Timer.builder("jdbc.connection.acquire")
+                .description("커넥션 획득 시간")
+                .tag("repository.method", method)
+                .register(meterRegistry);
+    }
+
+    private record StatementKey(String method, QueryType type, boolean success) {
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.ex.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PreparedStatement 재사용 통계
+ * - Connection.prepareStatement 로 넘어온 SQL 을 크기 capacity 의 캐시에 기록 (SqlMetricsListener)
+ * - 같은 크기의 SQL 문자열 기준 캐시가 얼마나 적중했을지를 보여준다
+ *   > 교체 정책은 Caffeine 의 W-TinyLFU 라서 드라이버/풀의 LRU 문장 캐시와 정확히 같지는 않다
+ *   > 자주 쓰는 문장을 더 잘 지키므로 LRU 보다 적중률이 같거나 높게 나올 수 있다 (상한에 가까운 추정치)
+ * - SQL 문자열이 호출마다 달라지면(리터럴, IN 절 크기) 적중률이 떨어진다
+ * - 모든 SQL 실행 경로에서 호출되므로 전역 락 없이 기록 (Caffeine recordStats, 문장별 LongAdder)
+ */
+@Component
+public class StatementCacheStatistics {
+
+    private final int capacity;
+    private final Cache<String, LongAdder> statements;
+
+    public StatementCacheStatistics(@Value("${ex.jdbc.statement-cache-size:256}") int capacity) {
+        this.capacity = capacity;
+        this.statements = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .recordStats()
+                .build();
+    }
+
+    public void record(String sql) {
+        statements.get(sql, key -> new LongAdder()).increment();
+    }
+
+    public Snapshot snapshot(int top) {
+        List<HotStatement> hot = statements.asMap().entrySet().stream()
+                .map(entry -> new HotStatement(entry.getKey(), entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(HotStatement::prepared).reversed())
+                .limit(top)
+                .toList();
+        CacheStats stats = statements.stats();
+        return new Snapshot(capacity, statements.estimatedSize(), CacheRatio.of(stats.hitCount(), stats.missCount()), hot);
+    }
+
+    public record Snapshot(int capacity, long size, CacheRatio ratio, List<HotStatement> hotStatements) {
+    }
+
+    public record HotStatement(String sql, long prepared) {
+    }
+
+    public record CacheRatio(long hits, long misses, double hitRatio) {
+
+        public static CacheRatio of(long hits, long misses) {
+            long total = hits + misses;
+            return new CacheRatio(hits, misses, total == 0 ? 0 : (double) hits / total);
+        }
+    }
+
+}
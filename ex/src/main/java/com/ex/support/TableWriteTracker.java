@@ -0,0 +1,102 @@
+package com.ex.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테이블별 쓰기 세대(generation) (datasource-proxy 리스너)
+ * - INSERT/UPDATE/DELETE/MERGE 가 실행되면 대상 테이블의 세대를 올린다 > 엔티티 변경, 벌크 연산, 네이티브 쿼리 모두 포함
+ * - 트랜잭션 안이면 커밋/롤백 후에 한 번 더 올린다
+ *   > 다른 트랜잭션이 커밋 전 상태로 계산해 둔 값도 커밋 이후에는 무효
+ * - 테이블 데이터로 계산한 값을 캐시할 때 세대를 함께 저장하고, 세대가 바뀌었으면 다시 계산 (PageCountSupport)
+ * - 요청 안에서 쓰기가 있었다고 기록 > 이후 읽기는 primary (ReadYourWritesContext)
+ */
+@Component
+public class TableWriteTracker implements QueryExecutionListener {
+
+    private static final Pattern WRITE = Pattern.compile(
+            "^\\s*(?:insert\\s+into|update|delete\\s+from|merge\\s+into)\\s+(?:\\w+\\.)?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public long generation(String table) {
+        AtomicLong generation = generations.get(table.toLowerCase(Locale.ROOT));
+        return generation == null ? 0 : generation.get();
+    }
+
+    public void written(String table) {
+        generations.computeIfAbsent(table.toLowerCase(Locale.ROOT), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            String table = writtenTable(queryInfo.getQuery());
+            if (table != null) {
+                written(table);
+                writtenInTransaction(table);
+                ReadYourWritesContext.markWritten();
+            }
+        }
+    }
+
+    static String writtenTable(String sql) {
+        if (sql == null || !startsWithWrite(sql)) {
+            return null;
+        }
+        Matcher matcher = WRITE.matcher(sql);
+        return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : null;
+    }
+
+    //SELECT 는 정규식까지 가지 않는다
+    private static boolean startsWithWrite(String sql) {
+        for (int i = 0; i < sql.length(); i++) {
+            char c = Character.toLowerCase(sql.charAt(i));
+            if (!Character.isWhitespace(c)) {
+                return c == 'i' || c == 'u' || c == 'd' || c == 'm';
+            }
+        }
+        return false;
+    }
+
+    //트랜잭션마다 쓴 테이블을 모아서 완료 시점에 한 번만 세대를 올린다
+    private void writtenInTransaction(String table) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> tables = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (tables == null) {
+            Set<String> written = new HashSet<>();
+            tables = written;
+            TransactionSynchronizationManager.bindResource(this, written);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TableWriteTracker.this);
+                    written.forEach(TableWriteTracker.this::written);
+                }
+            });
+        }
+        tables.add(table);
+    }
+
+}
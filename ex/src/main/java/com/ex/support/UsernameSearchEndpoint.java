@@ -0,0 +1,35 @@
+package com.ex.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/usernamesearch
+ * - GET : 검색 인덱스에 등록된 회원 수
+ * - POST : member 테이블로 인덱스 재구성 (벌크 연산으로 이름을 바꿨거나 다른 인스턴스의 변경을 반영할 때)
+ */
+@Component
+@Endpoint(id = "usernamesearch")
+@RequiredArgsConstructor
+public class UsernameSearchEndpoint {
+
+    private final UsernameSearchIndex usernameSearchIndex;
+
+    @ReadOperation
+    public IndexReport index() {
+        return new IndexReport(usernameSearchIndex.size());
+    }
+
+    @WriteOperation
+    public IndexReport rebuild() {
+        usernameSearchIndex.rebuild();
+        return new IndexReport(usernameSearchIndex.size());
+    }
+
+    public record IndexReport(int size) {
+    }
+
+}
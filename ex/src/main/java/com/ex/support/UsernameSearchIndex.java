@@ -0,0 +1,162 @@
+package com.ex.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 이름 검색 인덱스 (메모리, 인스턴스마다 하나)
+ * - 접두사 검색, 편집 거리 퍼지 검색 > where username like '%x%' 전체 스캔 대신 트라이 탐색
+ * - 대소문자 구분 없음
+ * - 기동 시 member 테이블로 전체 재구성, 이후 변경은 MemberSearchIndexListener 가 커밋 후 반영
+ * - 벌크 연산(update/delete 쿼리)은 엔티티 리스너를 거치지 않으므로 반영되지 않는다
+ *   > 검색 결과는 id 목록이고, 조회 시 없는 id 는 빠지므로 삭제는 결과에 드러나지 않는다. 이름 변경은 rebuild() 필요
+ * - 여러 인스턴스로 운영하면 각 인스턴스는 자기가 커밋한 변경만 바로 보인다 (다른 인스턴스 변경은 재기동/rebuild 시)
+ * - rebuild 는 /actuator/usernamesearch (POST) 로도 실행 (UsernameSearchEndpoint)
+ * - 재구성 중(조회 ~ 교체 사이)에 반영된 변경은 따로 모아 두었다가 교체 직후 다시 적용 > 조회 결과가 더 오래된 값으로 덮어쓰지 않는다
+ */
+@Slf4j
+@Component
+public class UsernameSearchIndex {
+
+    private final UsernameTrie trie = new UsernameTrie();
+    private final Map<Long, String> usernames = new HashMap<>(); //id > 인덱스된 이름, 이름 변경 시 이전 키 제거용
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, String> pending; //재구성 중 반영된 변경, id > 이름 (삭제는 null), 재구성 중이 아니면 null
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxResults;
+
+    public UsernameSearchIndex(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                               @Value("${ex.search.username.max-results:1000}") int maxResults) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResults = maxResults;
+        Gauge.builder("search.username.index.size", this, UsernameSearchIndex::size)
+                .description("검색 인덱스에 등록된 회원 수")
+                .register(meterRegistry);
+    }
+
+    //JPA 리스너와 같은 시점에 만들어지므로 리포지토리 대신 JdbcTemplate 로 직접 읽는다
+    //재구성끼리는 한 번에 하나만 (pending 을 공유한다)
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, String> rows = new HashMap<>();
+        try {
+            jdbcTemplate.query("select member_id, username from member",
+                    rs -> {
+                        rows.put(rs.getLong("member_id"), rs.getString("username"));
+                    });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            trie.clear();
+            usernames.clear();
+            rows.forEach(this::put);
+            pending.forEach(this::put); //조회 이후 커밋된 변경이 더 최신
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("username search index rebuilt {} members {}ms", rows.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void index(Long id, String username) {
+        lock.writeLock().lock();
+        try {
+            put(id, username);
+            if (pending != null) {
+                pending.put(id, username);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            put(id, null);
+            if (pending != null) {
+                pending.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long id, String username) {
+        String key = username == null ? null : normalize(username);
+        String previous = key == null ? usernames.remove(id) : usernames.put(id, key);
+        if (previous != null && !previous.equals(key)) {
+            trie.remove(previous, id);
+        }
+        if (key != null) {
+            trie.add(key, id);
+        }
+    }
+
+    /**
+     * 회원 id 검색 (최대 maxResults 건)
+     * - 접두사 : 이름 사전 순
+     * - 퍼지 : 허용 편집 거리는 검색어 길이로 정한다 (2자 이하 0, 5자 이하 1, 그 이상 2), 거리가 가까운 순
+     */
+    public List<Long> search(String query, boolean fuzzy) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String key = normalize(query);
+        lock.readLock().lock();
+        try {
+            return fuzzy ? trie.fuzzy(key, maxEdits(key), maxResults) : trie.prefix(key, maxResults);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int maxEdits(String key) {
+        return key.length() <= 2 ? 0 : key.length() <= 5 ? 1 : 2;
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.ex.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 회원 이름 트라이 (UsernameSearchIndex 내부용, 동기화는 호출하는 쪽에서)
+ * - 노드마다 자식 문자/노드를 정렬된 배열로 보관 > 노드당 HashMap 보다 메모리가 작고 순회 순서가 사전 순
+ * - 같은 이름의 회원이 여럿일 수 있으므로 이름이 끝나는 노드에 회원 id 목록을 둔다
+ * - 퍼지 검색은 트라이를 내려가면서 편집 거리 표를 한 행씩 계산하고, 행의 최솟값이 허용 거리를 넘으면 그 아래는 보지 않는다
+ */
+final class UsernameTrie {
+
+    private Node root = new Node();
+    private int size;
+
+    void add(String key, long id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.addId(id)) {
+            size++;
+        }
+    }
+
+    void remove(String key, long id) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        if (!path[key.length()].removeId(id)) {
+            return;
+        }
+        size--;
+        //비어 있는 노드는 위로 올라가면서 정리
+        for (int i = key.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    void clear() {
+        root = new Node();
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    //접두사로 시작하는 이름의 회원 id, 이름 사전 순
+    List<Long> prefix(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        List<Long> ids = new ArrayList<>();
+        if (node != null) {
+            collect(node, ids, limit);
+        }
+        return ids;
+    }
+
+    private static void collect(Node node, List<Long> ids, int limit) {
+        for (long id : node.ids) {
+            if (ids.size() >= limit) {
+                return;
+            }
+            ids.add(id);
+        }
+        for (Node child : node.children) {
+            if (ids.size() >= limit) {
+                return;
+            }
+            collect(child, ids, limit);
+        }
+    }
+
+    //편집 거리가 maxEdits 이하인 이름의 회원 id, 거리가 가까운 순 > 이름 사전 순
+    List<Long> fuzzy(String query, int maxEdits, int limit) {
+        int[] firstRow = new int[query.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        List<Match> matches = new ArrayList<>();
+        if (firstRow[query.length()] <= maxEdits && root.ids.length > 0) {
+            matches.add(new Match("", firstRow[query.length()], root.ids));
+        }
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < root.labels.length; i++) {
+            fuzzy(root.children[i], root.labels[i], query, firstRow, maxEdits, key, matches);
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::key));
+
+        List<Long> ids = new ArrayList<>();
+        for (Match match : matches) {
+            for (long id : match.ids()) {
+                if (ids.size() >= limit) {
+                    return ids;
+                }
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static void fuzzy(Node node, char label, String query, int[] previousRow, int maxEdits,
+                              StringBuilder key, List<Match> matches) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMin = row[0];
+        for (int j = 1; j < row.length; j++) {
+            int insert = row[j - 1] + 1;
+            int delete = previousRow[j] + 1;
+            int replace = previousRow[j - 1] + (query.charAt(j - 1) == label ? 0 : 1);
+            row[j] = Math.min(Math.min(insert, delete), replace);
+            rowMin = Math.min(rowMin, row[j]);
+        }
+        if (rowMin > maxEdits) {
+            return;
+        }
+
+        key.append(label);
+        int distance = row[row.length - 1];
+        if (distance <= maxEdits && node.ids.length > 0) {
+            matches.add(new Match(key.toString(), distance, node.ids));
+        }
+        for (int i = 0; i < node.labels.length; i++) {
+            fuzzy(node.children[i], node.labels[i], query, row, maxEdits, key, matches);
+        }
+        key.setLength(key.length() - 1);
+    }
+
+    private record Match(String key, int distance, long[] ids) {
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = {};
+        private static final Node[] NO_CHILDREN = {};
+        private static final long[] NO_IDS = {};
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private long[] ids = NO_IDS;
+
+        Node child(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i < 0 ? null : children[i];
+        }
+
+        Node childOrCreate(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -(i + 1);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            newLabels[at] = label;
+            newChildren[at] = new Node();
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        void removeChild(char label) {
+            int at = Arrays.binarySearch(labels, label);
+            if (at < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(labels, at + 1, newLabels, at, labels.length - at - 1);
+            System.arraycopy(children, at + 1, newChildren, at, children.length - at - 1);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        boolean addId(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return false;
+                }
+            }
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = id;
+            return true;
+        }
+
+        boolean removeId(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    long[] newIds = new long[ids.length - 1];
+                    System.arraycopy(ids, 0, newIds, 0, i);
+                    System.arraycopy(ids, i + 1, newIds, i, ids.length - i - 1);
+                    ids = newIds.length == 0 ? NO_IDS : newIds;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return labels.length == 0 && ids.length == 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.ex.config;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import com.ex.support.ReadYourWritesContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+//로컬 H2 두 개로 primary, replica 를 대신한다
+//replica 에는 primary 의 스키마만 복사 > primary 에 저장한 데이터는 replica 에서 보이지 않는다 (복제 지연)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "ex.datasource.replica.jdbc-url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "ex.datasource.replica.username=sa"
+})
+class RoutingDataSourceTest {
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+    @PersistenceContext
+    EntityManager em;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("drop all objects");
+        List<String> ddl = new JdbcTemplate(primaryDataSource).queryForList("script nodata", String.class);
+        ddl.forEach(replica::execute);
+    }
+
+    @Test
+    void routing() {
+
+        String writeUrl = writeTransaction().execute(status -> currentUrl());
+        String readUrl = readOnlyTransaction().execute(status -> currentUrl());
+        assertThat(writeUrl).contains("primary");
+        assertThat(readUrl).contains("replica");
+    }
+
+    @Test
+    void readOnlyRepositoryCallUsesReplica() {
+
+        Member member = writeTransaction().execute(status -> memberRepository.save(new Member("routingA", 10)));
+
+        //읽기 전용 트랜잭션의 JPA 조회는 replica > 아직 복제되지 않은 회원은 없다
+        Optional<Member> fromReplica = readOnlyTransaction().execute(status -> memberRepository.findById(member.getId()));
+        Optional<Member> fromPrimary = writeTransaction().execute(status -> memberRepository.findById(member.getId()));
+        assertThat(fromReplica).isEmpty();
+        assertThat(fromPrimary).isPresent();
+    }
+
+    @Test
+    void readYourWrites() {
+
+        ReadYourWritesContext.open(); //요청 시작
+        try {
+            //쓰기 트랜잭션에서 조회만 했다면 이후 읽기는 그대로 replica
+            writeTransaction().execute(status -> memberRepository.count());
+            String readUrl = readOnlyTransaction().execute(status -> currentUrl());
+            assertThat(readUrl).contains("replica");
+
+            Member member = writeTransaction().execute(status -> memberRepository.save(new Member("routingB", 10)));
+            //같은 요청에서 쓰기 이후 읽기는 primary
+            String readAfterWriteUrl = readOnlyTransaction().execute(status -> currentUrl());
+            Optional<Member> readAfterWrite = readOnlyTransaction().execute(status -> memberRepository.findById(member.getId()));
+            assertThat(readAfterWriteUrl).contains("primary");
+            assertThat(readAfterWrite).isPresent();
+        } finally {
+            ReadYourWritesContext.close();
+        }
+    }
+
+    private String currentUrl() {
+        return em.unwrap(Session.class).doReturningWork(connection -> connection.getMetaData().getURL());
+    }
+
+    private TransactionTemplate writeTransaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+}
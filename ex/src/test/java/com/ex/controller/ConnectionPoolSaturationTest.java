@@ -0,0 +1,66 @@
+package com.ex.controller;
+
+import com.ex.support.ConnectionPoolEndpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//커넥션 2개짜리 풀을 테스트가 모두 잡고 있는 동안 요청이 들어오면 connectionTimeout 후 503
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+@AutoConfigureMockMvc
+class ConnectionPoolSaturationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    ConnectionPoolEndpoint connectionPoolEndpoint;
+
+    @Test
+    void saturatedPool() throws Exception {
+
+        List<Connection> held = new ArrayList<>();
+        try {
+            held.add(dataSource.getConnection());
+            held.add(dataSource.getConnection());
+
+            ConnectionPoolEndpoint.ConnectionPoolReport report = connectionPoolEndpoint.connectionPool();
+            assertThat(report.pools()).singleElement().satisfies(pool -> {
+                assertThat(pool.maximumPoolSize()).isEqualTo(2);
+                assertThat(pool.active()).isEqualTo(2);
+                assertThat(pool.idle()).isZero();
+            });
+            assertThat(report.longestHolds()).hasSize(2);
+
+            mockMvc.perform(get("/members"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        assertThat(connectionPoolEndpoint.connectionPool().longestHolds()).isEmpty();
+        mockMvc.perform(get("/members"))
+                .andExpect(status().isOk());
+    }
+
+}
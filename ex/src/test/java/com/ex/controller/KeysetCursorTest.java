@@ -0,0 +1,39 @@
+package com.ex.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTrip() {
+
+        Sort sort = Sort.by("username");
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(Map.of("username", "memberA", "id", 3L)), sort);
+
+        KeysetScrollPosition position = KeysetCursor.decode(cursor, sort);
+        assertThat(position.getKeys()).containsEntry("username", "memberA").containsEntry("id", 3L);
+    }
+
+    @Test
+    void sortMismatch() {
+
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(Map.of("username", "memberA", "id", 3L)), Sort.by("username"));
+
+        //다른 정렬(방향 포함)로 재사용하면 400
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, Sort.by(Sort.Direction.DESC, "username")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, Sort.by("age")))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+}
@@ -52,6 +52,25 @@ class MemberTest {
         }
     }
 
+    @Test
+    void changeTeam() {
+
+        Team team = new Team("changeTeam");
+        em.persist(team);
+        em.persist(new Member("changeA", 10, team));
+
+        em.flush();
+        em.clear();
+
+        //조회한 팀의 회원 컬렉션은 지연 로딩 > 초기화 여부와 상관없이 한 번만 추가된다
+        Team findTeam = em.find(Team.class, team.getId());
+        Member memberB = new Member("changeB", 20, findTeam);
+        memberB.changeTeam(findTeam);
+        em.persist(memberB);
+
+        assertThat(findTeam.getMembers()).extracting(Member::getUsername).containsExactlyInAnyOrder("changeA", "changeB");
+    }
+
     @Test
     void baseEntityEvent() throws Exception {
 
@@ -1,9 +1,20 @@
 package com.ex.repository;
 
 import com.ex.entity.Item;
+import com.ex.support.QueryCounter;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ex.support.QueryCountAssertions.*;
+import static org.assertj.core.api.Assertions.*;
 
 
 @SpringBootTest
@@ -19,5 +30,55 @@ class ItemRepositoryTest {
         itemRepository.save(item);
     }
 
+    @Test
+    void insertWithoutSelect() {
+
+        QueryCounter.open();
+        try {
+            //식별자를 할당해도 새 객체면 merge(SELECT) 없이 INSERT 만
+            itemRepository.save(new Item("B"));
+            assertQueryCount(1);
+
+            QueryCounter.reset();
+            itemRepository.insert(new Item("C"));
+            assertQueryCount(1);
+        } finally {
+            QueryCounter.close();
+        }
+
+        assertThat(itemRepository.findById("B")).get().extracting(Item::getId).isEqualTo("B");
+    }
+
+    @Test
+    void insertAll() {
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            items.add(new Item("batch" + i));
+        }
+        itemRepository.insertAll(items);
+
+        assertThat(itemRepository.findAllById(List.of("batch0", "batch249"))).hasSize(2);
+        assertThat(items).noneMatch(Item::isNew);
+    }
+
+    @Test
+    void update() {
+
+        //없는 행은 INSERT 하지 않고 예외 (스프링 예외로 변환)
+        assertThatThrownBy(() -> itemRepository.update(new Item("missing")))
+                .isInstanceOf(DataAccessException.class)
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThat(itemRepository.existsById("missing")).isFalse();
+
+        //있는 행은 UPDATE, 등록 시간(updatable = false)은 새 객체의 null 로 덮어쓰지 않는다
+        LocalDateTime createdDate = itemRepository.save(new Item("update")).getCreatedDate();
+        assertThat(createdDate).isNotNull();
+
+        //DB(H2 timestamp)는 마이크로초까지 저장 > 조회한 값은 나노초 단위 원래 값과 1 마이크로초 이내
+        Item updated = itemRepository.update(new Item("update"));
+        assertThat(updated.getCreatedDate()).isCloseTo(createdDate, within(1, ChronoUnit.MICROS));
+        assertThat(itemRepository.findById("update").get().getCreatedDate()).isCloseTo(createdDate, within(1, ChronoUnit.MICROS));
+    }
 
-}
\ No newline at end of file
+}
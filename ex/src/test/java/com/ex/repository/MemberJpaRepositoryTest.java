@@ -1,6 +1,12 @@
 package com.ex.repository;
 
 import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.support.QueryCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static com.ex.support.QueryCountAssertions.*;
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -18,6 +25,8 @@ class MemberJpaRepositoryTest {
 
     @Autowired
     MemberJpaRepository memberJpaRepository;
+    @PersistenceContext
+    EntityManager em;
 
     @Test
     void member() {
@@ -104,6 +113,27 @@ class MemberJpaRepositoryTest {
         assertThat(totalCount).isEqualTo(5);
     }
 
+    @Test
+    void cachedTotalCount() {
+
+        int age = 88;
+        memberJpaRepository.save(new Member("cachedA", age));
+        memberJpaRepository.save(new Member("cachedB", age));
+        em.flush();
+        assertThat(memberJpaRepository.cachedTotalCount(age)).isEqualTo(2);
+
+        //쓰기가 없으면 카운트 쿼리 없이 재사용
+        QueryCounter.reset();
+        assertThat(memberJpaRepository.cachedTotalCount(age)).isEqualTo(2);
+        assertQueryCount(0);
+
+        //INSERT 가 실행되면 TTL 이 남아 있어도 다시 계산
+        memberJpaRepository.save(new Member("cachedC", age));
+        em.flush();
+        assertThat(memberJpaRepository.cachedTotalCount(age)).isEqualTo(3);
+        assertThat(memberJpaRepository.totalCount(age)).isEqualTo(3);
+    }
+
     @Test
     void bulkUpdate() {
 
@@ -117,4 +147,30 @@ class MemberJpaRepositoryTest {
         assertThat(updatedCount).isEqualTo(3);
     }
 
-}
\ No newline at end of file
+    @Test
+    void persistenceContextGovernor() {
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PersistenceContextGovernor governor = new PersistenceContextGovernor(10, 100_000, meterRegistry);
+
+        Team team = new Team("governorTeam");
+        em.persist(team);
+        for (int i = 0; i < 25; i++) {
+            em.persist(new Member("governor" + i, 77, team)); //다른 테스트의 나이(10) 조건 조회와 겹치지 않게
+            governor.afterWrite(em);
+            //관리 중인 엔티티 수가 기준을 넘지 않는다
+            assertThat(em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities())
+                    .isLessThan(10);
+        }
+        em.flush();
+        em.clear();
+
+        //clear 이후에도 팀 > 회원 순서로 저장되고 양방향 연관관계가 유지된다
+        assertThat(team.getMembers()).hasSize(25);
+        Team findTeam = em.find(Team.class, team.getId());
+        assertThat(findTeam.getMembers()).hasSize(25);
+        assertThat(meterRegistry.get("jpa.persistence.context.clears").tag("reason", "entities").counter().count())
+                .isPositive();
+    }
+
+}
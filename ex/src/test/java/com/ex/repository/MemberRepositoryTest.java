@@ -5,20 +5,34 @@ import com.ex.entity.Member;
 import com.ex.entity.Team;
 import com.ex.projections.MemberProjection;
 import com.ex.projections.NestedClosedProjections;
+import com.ex.projections.OpenUsernameOnly;
 import com.ex.projections.UsernameOnly;
 import com.ex.projections.UsernameOnlyDto;
+import com.ex.support.QueryCounter;
+import com.ex.support.StatementCacheStatistics;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.*;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.ex.support.QueryCountAssertions.*;
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -30,6 +44,10 @@ class MemberRepositoryTest {
     MemberRepository memberRepository; //스프링 데이터 JPA 가 프록시로 구현체를 만들어준다
     @Autowired
     TeamRepository teamRepository;
+    @Autowired
+    MemberReadRepository memberReadRepository;
+    @Autowired
+    StatementCacheStatistics statementCacheStatistics;
     @PersistenceContext
     EntityManager em;
 
@@ -179,8 +197,8 @@ class MemberRepositoryTest {
         memberRepository.save(memberA);
         
         List<MemberDto> result = memberRepository.findMemberDto();
-        assertThat(result.get(0).getUsername()).isEqualTo("memberA");
-        assertThat(result.get(0).getTeamName()).isEqualTo("teamA");
+        assertThat(result.get(0).username()).isEqualTo("memberA");
+        assertThat(result.get(0).teamName()).isEqualTo("teamA");
     }
 
     @Test
@@ -228,6 +246,60 @@ class MemberRepositoryTest {
         Page<MemberDto> pageDto = page.map(m -> new MemberDto(m.getId(), m.getUsername(), null));
     }
 
+    @Test
+    void pagingCountStrategy() {
+
+        for (int i = 1; i <= 5; i++) {
+            memberRepository.save(new Member("count" + i, 77));
+        }
+
+        Page<Member> firstPage = memberRepository.findPageByAge(77, PageRequest.of(0, 3, Sort.by("username")));
+        assertThat(firstPage.getTotalElements()).isEqualTo(5);
+
+        //@CountStrategy(CACHED) - 같은 조건이면 TTL 동안 전체 건수를 재사용 (content 쿼리만 실행)
+        QueryCounter.reset();
+        Page<Member> cachedPage = memberRepository.findPageByAge(77, PageRequest.of(0, 3, Sort.by("username")));
+        assertThat(cachedPage.getTotalElements()).isEqualTo(5);
+        assertQueryCount(1);
+
+        //member 테이블에 INSERT 가 실행되면 다시 계산
+        memberRepository.save(new Member("count6", 77));
+        Page<Member> recountedPage = memberRepository.findPageByAge(77, PageRequest.of(0, 3, Sort.by("username")));
+        assertThat(recountedPage.getTotalElements()).isEqualTo(6);
+
+        //마지막 페이지는 카운트 쿼리 없이 offset + content 크기로 계산
+        Page<Member> lastPage = memberRepository.findPageByAge(77, PageRequest.of(1, 4, Sort.by("username")));
+        assertThat(lastPage.getContent().size()).isEqualTo(2);
+        assertThat(lastPage.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    void keysetScroll() {
+
+        for (int i = 1; i <= 7; i++) {
+            memberRepository.save(new Member("scroll" + i, 10));
+        }
+
+        em.flush();
+        em.clear();
+
+        //윈도우를 끝까지 넘기면서 중복 없이 전체 데이터를 조회하는지 확인
+        Set<Long> ids = new HashSet<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Member> window;
+        do {
+            window = memberRepository.findMembersBy(position, Sort.by("username"), Limit.of(3));
+            for (Member member : window) {
+                assertThat(ids.add(member.getId())).isTrue();
+            }
+            if (!window.isEmpty()) {
+                position = window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        assertThat(ids.size()).isEqualTo(memberRepository.count());
+    }
+
     @Test
     void bulkUpdate() {
 
@@ -253,6 +325,41 @@ class MemberRepositoryTest {
         assertThat(resultAfterClear.get(0).getAge()).isEqualTo(31);
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //범위마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 밖에서 실행
+    void bulkUpdateChunked() {
+
+        Member memberA = memberRepository.save(new Member("chunkA", 150));
+        Member memberB = memberRepository.save(new Member("chunkB", 300));
+        Member memberC = memberRepository.save(new Member("chunkC", 310));
+        Member memberD = memberRepository.save(new Member("chunkD", 320));
+
+        BulkMutationResult result = memberRepository.bulkAgePlusChunked(300, 1);
+
+        assertThat(result.updated()).isEqualTo(3);
+        assertThat(result.chunks()).isNotEmpty();
+        assertThat(memberRepository.findById(memberA.getId()).get().getAge()).isEqualTo(150);
+        assertThat(memberRepository.findById(memberB.getId()).get().getAge()).isEqualTo(301);
+        assertThat(memberRepository.findById(memberC.getId()).get().getAge()).isEqualTo(311);
+        assertThat(memberRepository.findById(memberD.getId()).get().getAge()).isEqualTo(321);
+
+        //리포지토리 예외 변환 > InvalidDataAccessApiUsageException
+        assertThatThrownBy(() -> memberRepository.bulkAgePlusChunked(300, 0))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bulkUpdateChunkedInTransaction() {
+
+        memberRepository.save(new Member("chunkE", 400));
+
+        //호출한 트랜잭션의 락을 범위 트랜잭션이 기다리는 교착 대신 바로 실패
+        assertThatThrownBy(() -> memberRepository.bulkAgePlusChunked(400, 10))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void findMemberLazy() {
 
@@ -305,6 +412,65 @@ class MemberRepositoryTest {
         System.out.println("member.team = " + graphResult3.get(0).getTeam().getName());
     }
 
+    @Test
+    void entityGraphQueryCount() {
+
+        Team teamA = new Team("teamA");
+        Team teamB = new Team("teamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        em.persist(new Member("memberA", 10, teamA));
+        em.persist(new Member("memberB", 10, teamB));
+
+        em.flush();
+        em.clear();
+        QueryCounter.reset();
+
+        //EntityGraph 로 팀까지 한 번에 조회 > 팀 이름을 꺼내도 추가 쿼리 없음
+        List<Member> members = memberRepository.findAll();
+        for (Member member : members) {
+            if (member.getTeam() != null) {
+                member.getTeam().getName();
+            }
+        }
+
+        assertQueryCount(1);
+    }
+
+    @Test
+    void initializeTeam() {
+
+        Team teamA = new Team("teamA");
+        Team teamB = new Team("teamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        em.persist(new Member("initA", 10, teamA));
+        em.persist(new Member("initB", 10, teamB));
+
+        em.flush();
+        em.clear();
+
+        List<Member> members = memberRepository.findByUsernameIn(List.of("initA", "initB"));
+
+        //팀 프록시들을 IN 쿼리 하나로 초기화
+        QueryCounter.reset();
+        memberRepository.initialize(members, "team");
+        assertQueryCount(1);
+
+        for (Member member : members) {
+            assertThat(Hibernate.isInitialized(member.getTeam())).isTrue();
+            member.getTeam().getName();
+        }
+        assertQueryCount(1);
+
+        //팀의 members 컬렉션은 처음 접근할 때 영속성 컨텍스트의 다른 팀 컬렉션까지 배치로 함께 로딩 (@BatchSize)
+        QueryCounter.reset();
+        for (Member member : members) {
+            assertThat(member.getTeam().getMembers()).isNotEmpty();
+        }
+        assertQueryCount(1);
+    }
+
     @Test
     void queryHint() {
 
@@ -342,6 +508,26 @@ class MemberRepositoryTest {
         assertThat(members.size()).isEqualTo(1);
     }
 
+    @Test
+    void streamMembers() {
+
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("streamA", 10, teamA));
+        em.persist(new Member("streamB", 20, teamA));
+
+        em.flush();
+        em.clear();
+
+        long detachedCount;
+        try (Stream<Member> members = memberRepository.streamMembers(10)) {
+            detachedCount = members
+                    .filter(member -> !em.contains(member)) //읽자마자 detach
+                    .count();
+        }
+        assertThat(detachedCount).isEqualTo(memberRepository.count());
+    }
+
     @Test
     void queryByExample() {
 
@@ -398,11 +584,19 @@ class MemberRepositoryTest {
         List<UsernameOnly> result1 = memberRepository.findProjectionsByUsername("memberA");
         System.out.println("username = " + result1.get(0).getUsername());
 
-//        List<UsernameOnlyDto> result2 = memberRepository.findProjectionsByUsername("memberA");
-//        System.out.println("username = " + result2.get(0).getUsername());
+        //Open Projection 과 같은 값
+        List<OpenUsernameOnly> openResult = memberRepository.findOpenProjectionsByUsername("memberA");
+        assertThat(result1.get(0).getUsername()).isEqualTo(openResult.get(0).getUsername());
+
+        //동적 Projection 으로 조회해도 같은 값
+        List<UsernameOnly> genericResult = memberRepository.findProjectionsGenericByUsername("memberA", UsernameOnly.class);
+        assertThat(genericResult).extracting(UsernameOnly::getUsername)
+                .containsExactlyInAnyOrderElementsOf(result1.stream().map(UsernameOnly::getUsername).toList());
 
-//        List<UsernameOnlyDto> result3 = memberRepository.findProjectionsGenericByUsername("memberA", UsernameOnlyDto.class);
-//        System.out.println("username = " + result3.get(0).getUsername());
+        //클래스 기반(UsernameOnlyDto)도 같은 값
+        List<UsernameOnlyDto> result3 = memberRepository.findProjectionsGenericByUsername("memberA", UsernameOnlyDto.class);
+        assertThat(result3).extracting(UsernameOnly::getUsername)
+                .containsExactlyInAnyOrderElementsOf(result1.stream().map(UsernameOnly::getUsername).toList());
 
         //중첩구조
         List<NestedClosedProjections> result4 = memberRepository.findProjectionsGenericByUsername(
@@ -446,4 +640,110 @@ class MemberRepositoryTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    void readRepository() {
+
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("readA", 10, teamA));
+        em.persist(new Member("readB", 20));
+
+        em.flush();
+        em.clear();
+
+        //엔티티를 만들지 않고 DTO 로 바로 조회
+        assertThat(memberReadRepository.findUsernameList()).contains("readA", "readB");
+        assertThat(memberReadRepository.findMemberDto())
+                .extracting(MemberDto::username, MemberDto::teamName)
+                .contains(tuple("readA", "teamA"))
+                .doesNotContain(tuple("readB", null));
+
+        Page<MemberDto> page = memberReadRepository.findMemberPage(PageRequest.of(0, 1));
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(memberRepository.count());
+
+        //Pageable 의 정렬 적용
+        Page<MemberDto> sorted = memberReadRepository.findMemberPage(PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "id")));
+        assertThat(sorted.getContent()).extracting(MemberDto::id).isSortedAccordingTo(Comparator.reverseOrder());
+
+        //영속성 컨텍스트에 아무것도 올라가지 않는다
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) //예외로 테스트 트랜잭션이 rollback-only 가 되지 않도록
+    void readRepositoryRejectsUnknownSort() {
+
+        //허용되지 않은 정렬 속성은 거부
+        assertThatThrownBy(() -> memberReadRepository.findMemberPage(PageRequest.of(0, 1, Sort.by("age"))))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+    }
+
+    @Test
+    void dynamicDtoMapper() {
+
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        Member memberA = new Member("mapperA", 10, teamA);
+        em.persist(memberA);
+
+        em.flush();
+        em.clear();
+
+        //대상 타입별로 등록된 매퍼로 변환 (리플렉션, 프록시 없음)
+        List<MemberDto> members = memberRepository.findProjectionsGenericByUsername("mapperA", MemberDto.class);
+        assertThat(members).containsExactly(new MemberDto(memberA.getId(), "mapperA", "teamA"));
+
+        List<UsernameOnlyDto> usernames = memberRepository.findProjectionsGenericByUsername("mapperA", UsernameOnlyDto.class);
+        assertThat(usernames).extracting(UsernameOnly::getUsername).containsExactly("mapperA 10");
+
+        List<UsernameOnly> projections = memberRepository.findProjectionsGenericByUsername("mapperA", UsernameOnly.class);
+        assertThat(projections).extracting(UsernameOnly::getUsername).containsExactly("mapperA 10");
+
+        //등록되지 않은 타입은 스프링 데이터 동적 Projection
+        List<NestedClosedProjections> nested = memberRepository.findProjectionsGenericByUsername("mapperA", NestedClosedProjections.class);
+        assertThat(nested).extracting(projection -> projection.getTeam().getName()).containsExactly("teamA");
+    }
+
+    @Test
+    void auditing() {
+
+        //같은 트랜잭션이면 등록자는 한 번만 계산
+        Member memberA = memberRepository.save(new Member("auditA", 10));
+        Member memberB = memberRepository.save(new Member("auditB", 10));
+        em.flush();
+        assertThat(memberA.getCreatedBy()).isNotNull().isEqualTo(memberB.getCreatedBy());
+
+        //대량 저장은 등록 시간까지 하나로 고정
+        List<Member> members = List.of(new Member("auditC", 10), new Member("auditD", 10), new Member("auditE", 10));
+        memberRepository.saveAllBatched(members);
+
+        List<Member> saved = memberRepository.findByUsernameIn(List.of("auditC", "auditD", "auditE"));
+        assertThat(saved).hasSize(3);
+        assertThat(saved).extracting(Member::getCreatedDate).containsOnly(saved.get(0).getCreatedDate());
+        assertThat(saved).extracting(Member::getCreatedBy).containsOnly(memberA.getCreatedBy());
+    }
+
+    @Test
+    void inClauseParameterPadding() {
+
+        //다른 테스트가 먼저 준비한 SQL 과 섞이지 않도록 전후 차이로 비교
+        Map<String, Long> before = preparedStatements();
+        memberRepository.findByUsernameIn(List.of("a", "b", "c"));
+        memberRepository.findByUsernameIn(List.of("a", "b", "c", "d"));
+        Map<String, Long> after = preparedStatements();
+
+        //3개, 4개 모두 IN (?,?,?,?) 로 실행 > 같은 SQL 을 재사용
+        List<String> preparedSql = after.keySet().stream()
+                .filter(sql -> after.get(sql) > before.getOrDefault(sql, 0L))
+                .toList();
+        assertThat(preparedSql).anyMatch(sql -> sql.contains("in (?,?,?,?)"));
+        assertThat(preparedSql).noneMatch(sql -> sql.contains("in (?,?,?)"));
+    }
+
+    private Map<String, Long> preparedStatements() {
+        return statementCacheStatistics.snapshot(Integer.MAX_VALUE).hotStatements().stream()
+                .collect(Collectors.toMap(StatementCacheStatistics.HotStatement::sql, StatementCacheStatistics.HotStatement::prepared));
+    }
+
+}
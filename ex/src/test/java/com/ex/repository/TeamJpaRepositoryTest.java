@@ -0,0 +1,47 @@
+package com.ex.repository;
+
+import com.ex.entity.Team;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+class TeamJpaRepositoryTest {
+
+    @Autowired
+    TeamJpaRepository teamJpaRepository;
+    @Autowired
+    EntityManagerFactory emf;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    void secondLevelCache() {
+
+        //READ_WRITE 캐시는 커밋 이후에 캐시에 들어가므로 트랜잭션을 나눈다
+        Team teamA = transactionTemplate.execute(status -> teamJpaRepository.save(new Team("teamA")));
+
+        CacheRegionStatistics statistics = emf.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics("team");
+        long hitCountBefore = statistics.getHitCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Team findTeam = teamJpaRepository.find(teamA.getId()); //영속성 컨텍스트가 비어있어도 DB 대신 2차 캐시에서 조회
+            assertThat(findTeam.getName()).isEqualTo("teamA");
+        });
+
+        assertThat(statistics.getHitCount()).isGreaterThan(hitCountBefore);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.ex.service;
+
+import com.ex.config.AsyncConfig;
+import com.ex.dto.MemberDto;
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+//비동기 조회는 다른 스레드의 트랜잭션에서 실행되므로 데이터를 먼저 커밋한다 (테스트 트랜잭션 없음)
+@SpringBootTest
+class MemberQueryServiceTest {
+
+    @Autowired
+    MemberQueryService memberQueryService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    ApplicationContext context;
+
+    @Test
+    void concurrentLookups() {
+
+        Team team = teamRepository.save(new Team("asyncTeam"));
+        Member member = memberRepository.save(new Member("asyncA", 10, team));
+
+        CompletableFuture<Optional<MemberDto>> findMember = memberQueryService.findMember(member.getId());
+        CompletableFuture<Long> countMembers = memberQueryService.countMembers();
+        CompletableFuture<Long> countTeams = memberQueryService.countTeams();
+
+        //팀 이름까지 조회 스레드의 트랜잭션 안에서 DTO 로 변환
+        assertThat(findMember.join()).contains(new MemberDto(member.getId(), "asyncA", "asyncTeam"));
+        assertThat(countMembers.join()).isPositive();
+        assertThat(countTeams.join()).isPositive();
+        assertThat(memberQueryService.findMember(-1L).join()).isEmpty();
+    }
+
+    @Test
+    void applicationTaskExecutorKept() {
+
+        //jdbcExecutor 를 등록해도 MVC 비동기, @Async 기본 실행기는 스프링 부트 기본 실행기를 사용
+        Object applicationTaskExecutor = context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+        assertThat(applicationTaskExecutor).isNotSameAs(context.getBean(AsyncConfig.JDBC_EXECUTOR));
+        assertThat(context.getBean(AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME)).isSameAs(applicationTaskExecutor);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.ex.service;
+
+import com.ex.dto.MemberDto;
+import com.ex.entity.Member;
+import com.ex.entity.Team;
+import com.ex.repository.MemberRepository;
+import com.ex.repository.TeamRepository;
+import com.ex.support.UsernameSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+//인덱스는 커밋 후에 반영되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+class MemberSearchServiceTest {
+
+    @Autowired
+    MemberSearchService memberSearchService;
+    @Autowired
+    UsernameSearchIndex usernameSearchIndex;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    TeamRepository teamRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void search() {
+
+        Team team = teamRepository.save(new Team("searchTeam"));
+        Member alice = memberRepository.save(new Member("zsearchAlice", 10, team));
+        Member alina = memberRepository.save(new Member("zsearchAlina", 20));
+        Member bob = memberRepository.save(new Member("zsearchBob", 30));
+
+        //접두사 - 대소문자 구분 없음, 이름 사전 순
+        assertThat(memberSearchService.searchIds("ZSEARCHali", false)).containsExactly(alice.getId(), alina.getId());
+
+        Page<MemberDto> page = memberSearchService.search("zsearchali", false, PageRequest.of(0, 1));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactly(new MemberDto(alice.getId(), "zsearchAlice", "searchTeam"));
+
+        //퍼지 - alice 는 편집 거리 1, alina 는 2
+        assertThat(memberSearchService.searchIds("zsearchalise", true)).containsExactly(alice.getId(), alina.getId());
+
+        //이름 변경, 삭제
+        alice.updateUsername("zsearchCarol");
+        memberRepository.save(alice);
+        memberRepository.delete(bob);
+        assertThat(memberSearchService.searchIds("zsearchali", false)).containsExactly(alina.getId());
+        assertThat(memberSearchService.searchIds("zsearchcar", false)).containsExactly(alice.getId());
+        assertThat(memberSearchService.searchIds("zsearchbob", false)).isEmpty();
+
+        //재구성해도 같은 결과
+        usernameSearchIndex.rebuild();
+        assertThat(memberSearchService.searchIds("zsearch", false)).containsExactly(alina.getId(), alice.getId());
+    }
+
+    @Test
+    void rollbackIsNotIndexed() {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.saveAndFlush(new Member("zrollbackDave", 10));
+            status.setRollbackOnly();
+        });
+
+        assertThat(memberSearchService.searchIds("zrollback", false)).isEmpty();
+    }
+
+}
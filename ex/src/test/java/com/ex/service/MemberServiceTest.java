@@ -0,0 +1,66 @@
+package com.ex.service;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+//동시 수정은 각각 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+class MemberServiceTest {
+
+    static final int THREADS = 4;
+    static final int CALLS = 10;
+
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void optimisticRetry() throws Exception {
+
+        Member member = memberRepository.save(new Member("optimisticA", 0));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < CALLS; j++) {
+                        try {
+                            memberService.increaseAgeOptimistic("optimisticA");
+                            succeeded.incrementAndGet();
+                        } catch (OptimisticLockingFailureException e) {
+                            //재시도 초과 - 변경이 반영되지 않았으므로 세지 않는다
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        //갱신 손실 없음 - 성공한 호출 수만큼 정확히 증가
+        Member findMember = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(succeeded.get()).isPositive();
+        assertThat(findMember.getAge()).isEqualTo(succeeded.get());
+        assertThat(findMember.getVersion()).isEqualTo(succeeded.get());
+    }
+
+}
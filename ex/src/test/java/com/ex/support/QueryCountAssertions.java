@@ -0,0 +1,21 @@
+package com.ex.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 테스트용 SQL 수 검증
+ * - QueryCounter.reset() 이후 현재 스레드(트랜잭션)에서 실행된 SQL 수를 검증
+ * - INSERT/UPDATE 는 flush 시점에 실행되므로 필요하면 먼저 em.flush()
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertQueryCount(long expected) {
+        assertThat(QueryCounter.getCount())
+                .as("실행된 SQL: %s", QueryCounter.getCountsBySql())
+                .isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.ex.support;
+
+import com.ex.entity.Member;
+import com.ex.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+//리포지토리 메서드마다 트랜잭션이 끝나야 INSERT 가 실행되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+class SqlMetricsListenerTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void statementMetrics() {
+
+        memberRepository.save(new Member("metricsA", 31));
+        memberRepository.findByUsernameAndAgeGreaterThan("metricsA", 0);
+
+        //리포지토리 메서드, SQL 종류, 결과로 태그
+        Timer select = meterRegistry.get("jdbc.statement")
+                .tag("repository.method", "MemberRepository.findByUsernameAndAgeGreaterThan")
+                .tag("type", "select")
+                .tag("outcome", "success")
+                .timer();
+        long count = select.count();
+        assertThat(count).isPositive();
+
+        //같은 태그 조합이면 같은 미터에 누적
+        memberRepository.findByUsernameAndAgeGreaterThan("metricsA", 0);
+        assertThat(select.count()).isEqualTo(count + 1);
+
+        //INSERT/UPDATE/DELETE 는 변경된 행 수, SELECT 는 읽은 행 수
+        double inserted = meterRegistry.find("jdbc.rows").tag("type", "insert").summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+        assertThat(inserted).isGreaterThanOrEqualTo(1);
+        DistributionSummary selected = meterRegistry.get("jdbc.rows")
+                .tag("repository.method", "MemberRepository.findByUsernameAndAgeGreaterThan")
+                .tag("type", "select")
+                .summary();
+        assertThat(selected.count()).isPositive();
+        assertThat(selected.totalAmount()).isGreaterThanOrEqualTo(2);
+
+        assertThat(meterRegistry.find("jdbc.connection.acquire").timers()).isNotEmpty();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.ex.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UsernameSearchIndexTest {
+
+    @Test
+    void changesDuringRebuildAreKept() throws SQLException {
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("member_id")).thenReturn(1L);
+        when(rs.getString("username")).thenReturn("rebuildOld");
+
+        UsernameSearchIndex[] index = new UsernameSearchIndex[1];
+        //조회(SELECT) 결과를 넘기기 전에 다른 트랜잭션이 커밋한 변경이 반영된다
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void query(String sql, RowCallbackHandler rch) {
+                index[0].remove(1L);
+                index[0].index(2L, "rebuildNew");
+                try {
+                    rch.processRow(rs);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        index[0] = new UsernameSearchIndex(jdbcTemplate, new SimpleMeterRegistry(), 100);
+
+        index[0].rebuild();
+
+        //조회 결과(rebuildOld)가 이후의 삭제, 추가를 덮어쓰지 않는다
+        assertThat(index[0].search("rebuild", false)).containsExactly(2L);
+        assertThat(index[0].size()).isEqualTo(1);
+    }
+
+}